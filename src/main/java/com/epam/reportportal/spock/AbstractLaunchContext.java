@@ -62,6 +62,14 @@ public abstract class AbstractLaunchContext {
 		return launchInProgress.compareAndSet(TRUE, FALSE);
 	}
 
+	/**
+	 * Forget the finished launch, so a new one can be started
+	 */
+	void resetLaunch() {
+		launchId = null;
+		launchInProgress.set(null);
+	}
+
 	boolean isSpecRegistered(SpecInfo specInfo) {
 		return findSpecFootprint(specInfo) != null;
 	}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * A file or an in-memory content to attach to a test item. A file is only referenced by its path and is read when the
+ * attachment is sent.
+ */
+class Attachment {
+	private static final Logger LOGGER = LoggerFactory.getLogger(Attachment.class);
+
+	static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+	private final String name;
+	private final Path file;
+	private final byte[] content;
+
+	private Attachment(@Nonnull String name, @Nullable Path file, @Nullable byte[] content) {
+		this.name = name;
+		this.file = file;
+		this.content = content;
+	}
+
+	@Nonnull
+	static Attachment ofFile(@Nonnull Path file) {
+		return new Attachment(ofNullable(file.getFileName()).map(Path::toString).orElse(file.toString()), file, null);
+	}
+
+	@Nonnull
+	static Attachment ofContent(@Nonnull String name, @Nonnull byte[] content) {
+		return new Attachment(name, null, content);
+	}
+
+	/**
+	 * Resolve a path to attachments: a regular file to itself, a directory to its regular files.
+	 *
+	 * @param path file or directory path
+	 * @return attachments, empty list if the path doesn't exist
+	 */
+	@Nonnull
+	static List<Attachment> resolve(@Nonnull Path path) {
+		if (Files.isRegularFile(path)) {
+			return Collections.singletonList(ofFile(path));
+		}
+		if (!Files.isDirectory(path)) {
+			LOGGER.warn("Attachment file not found: {}", path);
+			return Collections.emptyList();
+		}
+		try (Stream<Path> files = Files.list(path)) {
+			return files.filter(Files::isRegularFile).sorted().map(Attachment::ofFile).collect(Collectors.toList());
+		} catch (IOException e) {
+			LOGGER.warn("Unable to list attachment directory: {}", path, e);
+			return new ArrayList<>();
+		}
+	}
+
+	@Nonnull
+	String getName() {
+		return name;
+	}
+
+	@Nullable
+	Path getFile() {
+		return file;
+	}
+
+	@Nonnull
+	String getContentType() {
+		if (file == null) {
+			return DEFAULT_CONTENT_TYPE;
+		}
+		try {
+			return ofNullable(Files.probeContentType(file)).orElse(DEFAULT_CONTENT_TYPE);
+		} catch (IOException e) {
+			return DEFAULT_CONTENT_TYPE;
+		}
+	}
+
+	/**
+	 * @return attachment size in bytes
+	 * @throws IOException if the file can't be accessed
+	 */
+	long size() throws IOException {
+		return file == null ? content.length : Files.size(file);
+	}
+
+	/**
+	 * Read attachment content. A file is read through a channel straight into a buffer of its size.
+	 *
+	 * @return attachment content
+	 * @throws IOException if the file can't be read
+	 */
+	@Nonnull
+	byte[] read() throws IOException {
+		if (file == null) {
+			return content;
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE - 8) {
+				throw new IOException("File is too big to attach: " + file);
+			}
+			ByteBuffer buffer = ByteBuffer.allocate((int) size);
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+				// read until the end of the file
+			}
+			return buffer.hasRemaining() ? Arrays.copyOf(buffer.array(), buffer.position()) : buffer.array();
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.Constants;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.MAPPER;
+
+/**
+ * Uploads file attachments with separate log requests, streaming the file content from disk right into the request
+ * body. The file is transferred from its channel in chunks, so the attachment size doesn't depend on the heap size.
+ */
+class AttachmentUploader {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentUploader.class);
+
+	static final long CHUNK_SIZE = 1024 * 1024;
+
+	private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+	/**
+	 * Request body which streams a file at send time.
+	 */
+	static class FileRequestBody extends RequestBody {
+		private final Path file;
+		private final MediaType contentType;
+
+		FileRequestBody(@Nonnull Path file, @Nonnull MediaType contentType) {
+			this.file = file;
+			this.contentType = contentType;
+		}
+
+		@Override
+		public MediaType contentType() {
+			return contentType;
+		}
+
+		@Override
+		public long contentLength() throws IOException {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				return channel.size();
+			}
+		}
+
+		@Override
+		public void writeTo(@Nonnull BufferedSink sink) throws IOException {
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				long size = channel.size();
+				long position = 0;
+				while (position < size) {
+					long transferred = channel.transferTo(position, Math.min(CHUNK_SIZE, size - position), sink);
+					if (transferred <= 0) {
+						throw new IOException("Unable to read attachment file: " + file);
+					}
+					position += transferred;
+				}
+			}
+		}
+	}
+
+	private final ReportPortalClient client;
+	private final Queue<Maybe<?>> uploads = new ConcurrentLinkedQueue<>();
+
+	AttachmentUploader(@Nonnull ReportPortalClient client) {
+		this.client = client;
+	}
+
+	/**
+	 * Upload a file attachment as a separate log request.
+	 *
+	 * @param itemId     item ID to attach the file to
+	 * @param launchUuid launch UUID
+	 * @param rq         log request without the file and item UUID
+	 * @param attachment file attachment
+	 */
+	void upload(@Nonnull Maybe<String> itemId, @Nonnull String launchUuid, @Nonnull SaveLogRQ rq, @Nonnull Attachment attachment) {
+		Path path = attachment.getFile();
+		if (path == null) {
+			throw new IllegalArgumentException("Only file attachments can be streamed");
+		}
+		Maybe<?> upload = itemId.flatMap(itemUuid -> {
+			rq.setItemUuid(itemUuid);
+			rq.setLaunchUuid(launchUuid);
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName(attachment.getName());
+			file.setContentType(attachment.getContentType());
+			rq.setFile(file);
+			RequestBody json = RequestBody.create(MAPPER.writeValueAsBytes(Collections.singletonList(rq)), JSON);
+			RequestBody content = new FileRequestBody(path, MediaType.parse(attachment.getContentType()));
+			return client.log(Arrays.asList(
+					MultipartBody.Part.createFormData(Constants.LOG_REQUEST_JSON_PART, null, json),
+					MultipartBody.Part.createFormData(Constants.LOG_REQUEST_BINARY_PART, attachment.getName(), content)
+			));
+		}).cache();
+		uploads.add(upload);
+		//noinspection ResultOfMethodCallIgnored
+		upload.subscribe(
+				r -> uploads.remove(upload),
+				e -> {
+					LOGGER.error("Unable to upload attachment: {}", path, e);
+					uploads.remove(upload);
+				},
+				() -> uploads.remove(upload)
+		);
+	}
+
+	/**
+	 * @return number of uploads in progress
+	 */
+	int getPending() {
+		return uploads.size();
+	}
+
+	/**
+	 * Wait for the uploads in progress.
+	 *
+	 * @param timeout maximum time to wait in milliseconds
+	 */
+	void await(long timeout) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		for (Maybe<?> upload : uploads) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				LOGGER.warn("Attachment uploads were not finished in {} ms, {} left", timeout, uploads.size());
+				return;
+			}
+			try {
+				upload.timeout(remaining, TimeUnit.NANOSECONDS).blockingGet();
+			} catch (RuntimeException ignore) {
+				// the error is logged by the upload subscriber
+			}
+		}
+	}
+}
@@ -0,0 +1,443 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.Constants;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.MAPPER;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Holds logs, which the client sends to selected test items, until the listener decides to send or to drop them. The
+ * listener reports through a wrapped client, so the hold applies to every log which reaches an item over the client:
+ * logging appenders, nested steps and the listener's own logs alike. An item is selected by its start request, nested
+ * items started under a held item share its hold.
+ * <p>
+ * In {@link SpockParameters.LogsMode#FAILURE} mode a full hold discards its oldest entries, in
+ * {@link SpockParameters.LogsMode#ITEM} mode it sends them as one batch.
+ */
+class ClientLogBuffer {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ClientLogBuffer.class);
+
+	private static final String START_ITEM_METHOD = "startTestItem";
+	private static final String FINISH_ITEM_METHOD = "finishTestItem";
+	private static final String LOG_METHOD = "log";
+	private static final String CONTENT_DISPOSITION = "Content-Disposition";
+	private static final String JSON_PART = "name=\"" + Constants.LOG_REQUEST_JSON_PART + "\"";
+	private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+	/**
+	 * Held logs of an item and of its nested items
+	 */
+	private static final class Hold {
+		private final Set<String> items = new HashSet<>();
+		private final Deque<SaveLogRQ> entries = new ArrayDeque<>();
+		private long firstTime;
+		private long dropped;
+	}
+
+	private final ReportPortalClient client;
+	private final int capacity;
+	private final long maxAge;
+	private final boolean overflowSend;
+
+	// guarded by this
+	private final Set<StartTestItemRQ> marked = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Map<String, Hold> holds = new HashMap<>();
+	// items with discarded logs, till they are finished
+	private final Set<String> dropped = new HashSet<>();
+
+	private final Queue<Maybe<?>> sending = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * @param client       ReportPortal client to wrap
+	 * @param capacity     maximum number of entries held per item
+	 * @param maxAge       maximum time in milliseconds an entry can be held, zero or negative value means no limit, checked
+	 *                     when a new entry arrives
+	 * @param overflowSend true if held entries are sent when the hold reaches one of its limits, otherwise the oldest
+	 *                     entries are discarded
+	 */
+	ClientLogBuffer(@Nonnull ReportPortalClient client, int capacity, long maxAge, boolean overflowSend) {
+		this.client = client;
+		this.capacity = Math.max(1, capacity);
+		this.maxAge = maxAge;
+		this.overflowSend = overflowSend;
+	}
+
+	/**
+	 * @param reportPortal ReportPortal client instance
+	 * @return ReportPortal instance, which holds logs of selected items, to create the launch with
+	 */
+	@Nonnull
+	ReportPortal wrap(@Nonnull ReportPortal reportPortal) {
+		return ReportPortal.create(wrapClient(), reportPortal.getParameters(), createExecutor());
+	}
+
+	@Nonnull
+	private ReportPortalClient wrapClient() {
+		return (ReportPortalClient) Proxy.newProxyInstance(
+				ReportPortalClient.class.getClassLoader(), new Class<?>[] { ReportPortalClient.class }, (proxy, method, args) -> {
+					if (START_ITEM_METHOD.equals(method.getName()) && args != null && args.length > 0
+							&& args[args.length - 1] instanceof StartTestItemRQ) {
+						return onItemStart(method, args);
+					}
+					if (LOG_METHOD.equals(method.getName()) && args != null && args.length == 1 && args[0] instanceof List) {
+						return onLog(method, args);
+					}
+					if (FINISH_ITEM_METHOD.equals(method.getName()) && args != null && args.length > 0 && args[0] instanceof String) {
+						return onItemFinish(method, args);
+					}
+					return invoke(method, args);
+				}
+		);
+	}
+
+	@Nonnull
+	private static ExecutorService createExecutor() {
+		AtomicInteger counter = new AtomicInteger();
+		return Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "rp-spock-logs-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private Object invoke(@Nonnull Method method, @Nullable Object[] args) throws Throwable {
+		try {
+			return method.invoke(client, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Hold logs of the item, which is started with the request.
+	 *
+	 * @param rq item start request
+	 */
+	synchronized void hold(@Nonnull StartTestItemRQ rq) {
+		marked.add(rq);
+	}
+
+	/**
+	 * Send held logs of an item as one batch. Logs which reach the client later are sent as usual.
+	 *
+	 * @param itemId item ID
+	 */
+	void release(@Nonnull Maybe<String> itemId) {
+		track(itemId.flatMap(uuid -> send(take(uuid))));
+	}
+
+	/**
+	 * Discard held logs of an item, as well as its logs which reach the client later.
+	 *
+	 * @param itemId item ID
+	 */
+	void drop(@Nonnull Maybe<String> itemId) {
+		//noinspection ResultOfMethodCallIgnored
+		itemId.subscribe(this::discard, e -> LOGGER.debug("Item is not started, there are no logs to drop", e));
+	}
+
+	/**
+	 * Send all held logs, e.g. of items which were not finished till the launch finish.
+	 */
+	void releaseAll() {
+		List<SaveLogRQ> entries = new ArrayList<>();
+		synchronized (this) {
+			new LinkedHashSet<>(holds.values()).forEach(hold -> entries.addAll(drain(hold)));
+			holds.clear();
+			marked.clear();
+			dropped.clear();
+		}
+		track(send(entries));
+	}
+
+	/**
+	 * @return number of log requests in progress, sent by this buffer
+	 */
+	int getPending() {
+		return sending.size();
+	}
+
+	/**
+	 * Wait for the log requests in progress.
+	 *
+	 * @param timeout maximum time to wait in milliseconds
+	 */
+	void await(long timeout) {
+		long start = System.nanoTime();
+		long limit = TimeUnit.MILLISECONDS.toNanos(timeout);
+		for (Maybe<?> request : sending) {
+			long remaining = limit - (System.nanoTime() - start);
+			if (remaining <= 0) {
+				LOGGER.warn("Held logs were not sent in {} ms, {} requests left", timeout, sending.size());
+				return;
+			}
+			try {
+				request.timeout(remaining, TimeUnit.NANOSECONDS).blockingGet();
+			} catch (RuntimeException ignore) {
+				// the error is logged by the request subscriber
+			}
+		}
+	}
+
+	private void track(@Nonnull Maybe<?> send) {
+		Maybe<?> request = send.cache();
+		sending.add(request);
+		//noinspection ResultOfMethodCallIgnored
+		request.subscribe(
+				r -> sending.remove(request), e -> {
+					LOGGER.error("Unable to send held logs", e);
+					sending.remove(request);
+				}, () -> sending.remove(request)
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object onItemStart(@Nonnull Method method, @Nonnull Object[] args) throws Throwable {
+		StartTestItemRQ rq = (StartTestItemRQ) args[args.length - 1];
+		String parentUuid = args.length > 1 && args[0] instanceof String ? (String) args[0] : null;
+		boolean held;
+		synchronized (this) {
+			held = marked.remove(rq);
+		}
+		Object result = invoke(method, args);
+		if ((!held && parentUuid == null) || !(result instanceof Maybe)) {
+			return result;
+		}
+		// the hold is registered before the item UUID is passed to anyone who can log to it
+		return ((Maybe<ItemCreatedRS>) result).doOnSuccess(rs -> started(rs.getId(), held, parentUuid));
+	}
+
+	private Object onItemFinish(@Nonnull Method method, @Nonnull Object[] args) throws Throwable {
+		String uuid = (String) args[0];
+		Object result = invoke(method, args);
+		if (!(result instanceof Maybe)) {
+			return result;
+		}
+		// the client sends logs of an item before its finish, so a finished item doesn't need to be tracked anymore
+		return ((Maybe<?>) result).doFinally(() -> finished(uuid));
+	}
+
+	private synchronized void finished(@Nonnull String uuid) {
+		dropped.remove(uuid);
+	}
+
+	private synchronized void started(@Nullable String uuid, boolean held, @Nullable String parentUuid) {
+		if (uuid == null) {
+			return;
+		}
+		Hold hold = held ? new Hold() : ofNullable(parentUuid).map(holds::get).orElse(null);
+		if (hold != null) {
+			hold.items.add(uuid);
+			holds.put(uuid, hold);
+		} else if (parentUuid != null && dropped.contains(parentUuid)) {
+			dropped.add(uuid);
+		}
+	}
+
+	@Nonnull
+	private synchronized List<SaveLogRQ> take(@Nonnull String uuid) {
+		Hold hold = holds.get(uuid);
+		if (hold == null) {
+			return Collections.emptyList();
+		}
+		hold.items.forEach(holds::remove);
+		return drain(hold);
+	}
+
+	private synchronized void discard(@Nonnull String uuid) {
+		Hold hold = holds.get(uuid);
+		if (hold != null) {
+			hold.items.forEach(holds::remove);
+			dropped.addAll(hold.items);
+		}
+	}
+
+	@Nonnull
+	private static List<SaveLogRQ> drain(@Nonnull Hold hold) {
+		List<SaveLogRQ> result = new ArrayList<>(hold.entries);
+		if (hold.dropped > 0 && !result.isEmpty()) {
+			SaveLogRQ first = result.get(0);
+			SaveLogRQ warning = new SaveLogRQ();
+			warning.setItemUuid(first.getItemUuid());
+			warning.setLaunchUuid(first.getLaunchUuid());
+			warning.setLevel(LogLevel.WARN.name());
+			warning.setLogTime(first.getLogTime() != null ? first.getLogTime() : Instant.now());
+			warning.setMessage(String.format("%d earlier log entries were discarded", hold.dropped));
+			result.add(0, warning);
+		}
+		hold.entries.clear();
+		hold.dropped = 0;
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object onLog(@Nonnull Method method, @Nonnull Object[] args) throws Throwable {
+		synchronized (this) {
+			if (holds.isEmpty() && dropped.isEmpty()) {
+				return invoke(method, args);
+			}
+		}
+		List<SaveLogRQ> rqs;
+		try {
+			rqs = parse((List<MultipartBody.Part>) args[0]);
+		} catch (IOException | RuntimeException e) {
+			LOGGER.debug("Unable to read a log request, it's sent as is", e);
+			return invoke(method, args);
+		}
+		List<SaveLogRQ> passed = new ArrayList<>();
+		boolean changed = false;
+		long time = System.nanoTime();
+		synchronized (this) {
+			for (SaveLogRQ rq : rqs) {
+				String uuid = rq.getItemUuid();
+				Hold hold = uuid == null ? null : holds.get(uuid);
+				if (hold != null) {
+					passed.addAll(add(hold, rq, time));
+					changed = true;
+				} else if (uuid != null && dropped.contains(uuid)) {
+					changed = true;
+				} else {
+					passed.add(rq);
+				}
+			}
+		}
+		if (!changed) {
+			return invoke(method, args);
+		}
+		if (passed.isEmpty()) {
+			return Maybe.just(new BatchSaveOperatingRS());
+		}
+		return client.log(toParts(passed));
+	}
+
+	/**
+	 * @return entries to send right away, if the hold reached one of its limits
+	 */
+	@Nonnull
+	private List<SaveLogRQ> add(@Nonnull Hold hold, @Nonnull SaveLogRQ rq, long time) {
+		if (hold.entries.isEmpty()) {
+			hold.firstTime = time;
+		}
+		if (!overflowSend && hold.entries.size() >= capacity) {
+			hold.entries.pollFirst();
+			hold.dropped++;
+		}
+		hold.entries.add(rq);
+		boolean expired = maxAge > 0 && TimeUnit.NANOSECONDS.toMillis(time - hold.firstTime) >= maxAge;
+		if (overflowSend && (hold.entries.size() >= capacity || expired)) {
+			return drain(hold);
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Read log entries of a multipart log request, file contents are put back into the entries.
+	 */
+	@Nonnull
+	private static List<SaveLogRQ> parse(@Nonnull List<MultipartBody.Part> parts) throws IOException {
+		List<SaveLogRQ> result = new ArrayList<>();
+		Deque<MultipartBody.Part> files = new ArrayDeque<>();
+		for (MultipartBody.Part part : parts) {
+			String disposition = ofNullable(part.headers()).map(h -> h.get(CONTENT_DISPOSITION)).orElse("");
+			if (disposition.contains(JSON_PART)) {
+				result.addAll(MAPPER.readValue(read(part.body()), new TypeReference<List<SaveLogRQ>>() {
+				}));
+			} else {
+				files.add(part);
+			}
+		}
+		// the client puts file parts in the order of the entries
+		for (SaveLogRQ rq : result) {
+			SaveLogRQ.File file = rq.getFile();
+			if (file != null && !files.isEmpty()) {
+				file.setContent(read(files.poll().body()));
+			}
+		}
+		return result;
+	}
+
+	@Nonnull
+	private static byte[] read(@Nonnull RequestBody body) throws IOException {
+		Buffer buffer = new Buffer();
+		body.writeTo(buffer);
+		return buffer.readByteArray();
+	}
+
+	@Nonnull
+	private Maybe<BatchSaveOperatingRS> send(@Nonnull List<SaveLogRQ> entries) {
+		if (entries.isEmpty()) {
+			return Maybe.empty();
+		}
+		try {
+			return client.log(toParts(entries));
+		} catch (IOException e) {
+			return Maybe.error(e);
+		}
+	}
+
+	@Nonnull
+	private static List<MultipartBody.Part> toParts(@Nonnull List<SaveLogRQ> entries) throws IOException {
+		List<MultipartBody.Part> parts = new ArrayList<>();
+		parts.add(MultipartBody.Part.createFormData(
+				Constants.LOG_REQUEST_JSON_PART,
+				null,
+				RequestBody.create(MAPPER.writeValueAsBytes(entries), JSON)
+		));
+		for (SaveLogRQ rq : entries) {
+			SaveLogRQ.File file = rq.getFile();
+			if (file != null && file.getContent() != null) {
+				MediaType contentType = ofNullable(file.getContentType()).map(MediaType::parse).orElse(null);
+				parts.add(MultipartBody.Part.createFormData(
+						Constants.LOG_REQUEST_BINARY_PART,
+						file.getName(),
+						RequestBody.create(file.getContent(), contentType)
+				));
+			}
+		}
+		return parts;
+	}
+}
@@ -3,6 +3,10 @@ package com.epam.reportportal.spock;
 import jakarta.annotation.Nonnull;
 import org.spockframework.runtime.extension.IMethodInterceptor;
 import org.spockframework.runtime.extension.IMethodInvocation;
+import org.spockframework.runtime.model.FeatureInfo;
+import org.spockframework.runtime.model.IterationInfo;
+import org.spockframework.runtime.model.MethodInfo;
+import org.spockframework.runtime.model.SpecInfo;
 
 /**
  * Implementation of {@link org.spockframework.runtime.extension.IMethodInterceptor}, which allows to report
@@ -20,23 +24,22 @@ class FixtureInterceptor implements IMethodInterceptor {
 
 	@Override
 	public void intercept(IMethodInvocation invocation) throws Throwable {
-		spockService.registerFixture(invocation.getSpec(), invocation.getFeature(), invocation.getIteration(), invocation.getMethod());
+		SpecInfo spec = invocation.getSpec();
+		FeatureInfo feature = invocation.getFeature();
+		IterationInfo iteration = invocation.getIteration();
+		MethodInfo method = invocation.getMethod();
+		spockService.beforeFixture(spec, feature, iteration, method);
 		Throwable exception = null;
 		try {
 			invocation.proceed();
 		} catch (Throwable ex) {
 			exception = ex;
+			spockService.captureFailureAttachments(spec, feature, iteration, invocation.getInstance());
 			// explicitly report exception to has an ability to track error
 			// before result publishing
-			spockService.reportFixtureError(
-					invocation.getSpec(),
-					invocation.getFeature(),
-					invocation.getIteration(),
-					invocation.getMethod(),
-					ex
-			);
+			spockService.fixtureError(spec, feature, iteration, method, ex);
 		}
-		spockService.publishFixtureResult(invocation.getSpec(), invocation.getFeature(), invocation.getIteration(), invocation.getMethod());
+		spockService.afterFixture(spec, feature, iteration, method);
 		if (exception != null) {
 			throw exception;
 		}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of item start and finish requests, which were submitted to the client, but were not answered by
+ * ReportPortal server yet. Provides gauges of the current window state.
+ * <p>
+ * The window has two lanes: finish requests of failed items take a free slot before any other waiting request, so
+ * failed statuses reach the server first when the window is full. The lanes order only the requests which wait for a
+ * slot, so they take effect with a bounded window only, see {@link SpockParameters#getInFlightMax()}. An unbounded
+ * window, the default, passes every request to the client immediately in the order of the calls. Log requests,
+ * including error logs with stack traces, are batched by the client, don't pass through the window at all and are
+ * never prioritized.
+ */
+public class InFlightWindow {
+
+	/**
+	 * What to do with a new request when the window is full
+	 */
+	public enum Policy {
+		/**
+		 * Block the test thread until there is a free slot in the window
+		 */
+		BLOCK,
+		/**
+		 * Queue the item start in memory without blocking the test thread, queued starts are sent to the launch in their
+		 * order when the window has room. The queue is bounded, see {@link SpockParameters#getInFlightSpillMax()}, when it's
+		 * full the policy acts as {@link #DEGRADE}
+		 */
+		SPILL,
+		/**
+		 * Skip reporting of items without own statistics (nested iterations and fixtures), block on others
+		 */
+		DEGRADE
+	}
+
+	private final int capacity;
+	private final Policy policy;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition slotFreed = lock.newCondition();
+	// guarded by the lock
+	private int free;
+	private int priorityWaiting;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peak = new AtomicInteger();
+	private final AtomicLong submitted = new AtomicLong();
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong spilled = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong prioritized = new AtomicLong();
+
+	/**
+	 * @param capacity maximum number of unanswered requests, zero or negative value means no limit
+	 * @param policy   what to do with a new request when the window is full
+	 */
+	InFlightWindow(int capacity, @Nonnull Policy policy) {
+		this.capacity = Math.max(0, capacity);
+		this.policy = policy;
+		this.free = this.capacity;
+	}
+
+	boolean isBounded() {
+		return capacity > 0;
+	}
+
+	/**
+	 * Try to take a slot in the window without waiting.
+	 *
+	 * @return true if the slot was taken or the window is unbounded
+	 */
+	boolean tryAcquire() {
+		if (!isBounded()) {
+			return true;
+		}
+		lock.lock();
+		try {
+			if (free > 0 && priorityWaiting == 0) {
+				free--;
+				return true;
+			}
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Take a slot in the window, waiting for it if necessary.
+	 */
+	void acquire() {
+		acquire(false);
+	}
+
+	/**
+	 * Take a slot in the window, waiting for it if necessary. Priority requests get freed slots before regular ones. Does
+	 * nothing for an unbounded window, there is no waiting and nothing to order.
+	 *
+	 * @param priority true for a finish request of a failed item
+	 */
+	void acquire(boolean priority) {
+		if (!isBounded()) {
+			return;
+		}
+		lock.lock();
+		try {
+			if (priority) {
+				if (free == 0) {
+					prioritized.incrementAndGet();
+				}
+				priorityWaiting++;
+				try {
+					while (free == 0) {
+						slotFreed.awaitUninterruptibly();
+					}
+				} finally {
+					priorityWaiting--;
+				}
+			} else {
+				while (free == 0 || priorityWaiting > 0) {
+					slotFreed.awaitUninterruptibly();
+				}
+			}
+			free--;
+			if (priority && free > 0) {
+				// regular requests, which were held back by this one, may take the rest of free slots
+				slotFreed.signalAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Account the request as submitted and free its slot when the server answers.
+	 *
+	 * @param response server response of the request for which a slot was taken
+	 */
+	void track(@Nonnull Maybe<?> response) {
+		submitted.incrementAndGet();
+		int current = inFlight.incrementAndGet();
+		peak.accumulateAndGet(current, Math::max);
+		//noinspection ResultOfMethodCallIgnored
+		response.subscribe(r -> release(), e -> release(), this::release);
+	}
+
+	private void release() {
+		inFlight.decrementAndGet();
+		completed.incrementAndGet();
+		if (isBounded()) {
+			lock.lock();
+			try {
+				free++;
+				slotFreed.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	void markSpilled() {
+		spilled.incrementAndGet();
+	}
+
+	void markDropped() {
+		dropped.incrementAndGet();
+	}
+
+	/**
+	 * @return maximum number of unanswered requests, 0 if unbounded
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Nonnull
+	public Policy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * @return current number of unanswered requests
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	/**
+	 * @return maximum number of unanswered requests observed
+	 */
+	public int getPeakInFlight() {
+		return peak.get();
+	}
+
+	/**
+	 * @return total number of requests submitted to the client
+	 */
+	public long getSubmitted() {
+		return submitted.get();
+	}
+
+	/**
+	 * @return total number of requests answered by the server
+	 */
+	public long getCompleted() {
+		return completed.get();
+	}
+
+	/**
+	 * @return number of item starts queued because the window was full
+	 */
+	public long getSpilled() {
+		return spilled.get();
+	}
+
+	/**
+	 * @return number of items skipped because the window was full
+	 */
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	/**
+	 * @return number of failed item finishes, which waited for a slot in the priority lane
+	 */
+	public long getPrioritized() {
+		return prioritized.get();
+	}
+
+	@Override
+	public String toString() {
+		return "in-flight: " + getInFlight() + "/" + (isBounded() ? capacity : "unbounded") + ", peak: " + getPeakInFlight()
+				+ ", submitted: " + getSubmitted() + ", completed: " + getCompleted() + ", spilled: " + getSpilled() + ", dropped: "
+				+ getDropped() + ", prioritized: " + getPrioritized();
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Attaches files to the test item, which is currently run on the calling thread: a feature or an iteration, including
+ * its fixtures, or a specification for specification fixtures. Files are referenced by path and are read only when they
+ * are sent, big files are streamed to the server without loading them into memory, so they must not be deleted until
+ * the launch finish.
+ * <p>
+ * Example:
+ * <pre>
+ * def "video is recorded"() {
+ *     expect:
+ *     ItemAttachments.attach(Paths.get("build/video/recording.mp4"))
+ * }
+ * </pre>
+ */
+public class ItemAttachments {
+	private static final ThreadLocal<Consumer<Attachment>> CURRENT = new ThreadLocal<>();
+
+	private ItemAttachments() {
+	}
+
+	/**
+	 * Attach a file to the current test item.
+	 *
+	 * @param file file path
+	 * @return true if the file was attached, false if there is no test item run on the current thread
+	 */
+	public static boolean attach(@Nonnull Path file) {
+		Consumer<Attachment> sink = CURRENT.get();
+		if (sink == null) {
+			return false;
+		}
+		sink.accept(Attachment.ofFile(file));
+		return true;
+	}
+
+	static void bind(@Nullable Consumer<Attachment> sink) {
+		if (sink == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(sink);
+		}
+	}
+}
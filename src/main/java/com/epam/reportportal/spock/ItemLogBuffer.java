@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Bounded in-memory buffer of log entries of a running test item. When the buffer is full the oldest entries are
+ * discarded, or, if the buffer has an overflow consumer, all buffered entries are passed to it as one batch. The listener
+ * binds a buffer to the test thread for the time of an iteration run, custom logging code can
+ * put entries into it with {@link #log(String, String)} and send an entry as usual only if it was not buffered. Logs,
+ * which are sent through the ReportPortal client, e.g. by the standard logging appenders, don't need this: the listener
+ * holds them by their items in the same modes, see {@link ClientLogBuffer}.
+ */
+public class ItemLogBuffer {
+	private static final ThreadLocal<ItemLogBuffer> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Buffered log entry
+	 */
+	static final class Entry {
+		final String level;
+		final String message;
+		final Instant time;
+
+		Entry(@Nonnull String level, @Nonnull String message, @Nonnull Instant time) {
+			this.level = level;
+			this.message = message;
+			this.time = time;
+		}
+	}
+
+	private final int capacity;
+	private final long maxAge;
+	private final Consumer<List<Entry>> overflow;
+	private final Deque<Entry> entries = new ArrayDeque<>();
+	private long dropped;
+	private volatile boolean failed;
+
+	/**
+	 * @param capacity maximum number of entries to keep
+	 */
+	ItemLogBuffer(int capacity) {
+		this(capacity, 0, null);
+	}
+
+	/**
+	 * @param capacity maximum number of entries to keep
+	 * @param maxAge   maximum age of the oldest entry in milliseconds, checked when a new entry is added, zero or negative
+	 *                 value means no limit
+	 * @param overflow consumer of the buffered entries when the buffer reaches one of its limits, if null the oldest
+	 *                 entries are discarded instead
+	 */
+	ItemLogBuffer(int capacity, long maxAge, @Nullable Consumer<List<Entry>> overflow) {
+		this.capacity = Math.max(1, capacity);
+		this.maxAge = maxAge;
+		this.overflow = overflow;
+	}
+
+	/**
+	 * Put a log entry into the buffer bound to the current thread.
+	 *
+	 * @param level   log level
+	 * @param message log message
+	 * @return true if the entry was buffered, false if there is no buffer bound to the current thread and the entry
+	 * should be sent as usual
+	 */
+	public static boolean log(@Nonnull String level, @Nonnull String message) {
+		ItemLogBuffer buffer = CURRENT.get();
+		if (buffer == null) {
+			return false;
+		}
+		buffer.add(level, message, Instant.now());
+		return true;
+	}
+
+	static void bind(@Nullable ItemLogBuffer buffer) {
+		if (buffer == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(buffer);
+		}
+	}
+
+	void add(@Nonnull String level, @Nonnull String message, @Nonnull Instant time) {
+		List<Entry> batch = null;
+		synchronized (this) {
+			if (overflow == null && entries.size() >= capacity) {
+				entries.pollFirst();
+				dropped++;
+			}
+			entries.addLast(new Entry(level, message, time));
+			if (overflow != null && (entries.size() >= capacity || isExpired(time))) {
+				batch = new ArrayList<>(entries);
+				entries.clear();
+			}
+		}
+		if (batch != null) {
+			// the batch is passed outside the lock to not block other loggers while it's being sent
+			overflow.accept(batch);
+		}
+	}
+
+	private boolean isExpired(@Nonnull Instant time) {
+		Entry first = entries.peekFirst();
+		return maxAge > 0 && first != null && Duration.between(first.time, time).toMillis() >= maxAge;
+	}
+
+	void markFailed() {
+		failed = true;
+	}
+
+	boolean isFailed() {
+		return failed;
+	}
+
+	synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return number of entries discarded because the buffer was full
+	 */
+	synchronized long getDropped() {
+		return dropped;
+	}
+
+	/**
+	 * Take all buffered entries and clear the buffer.
+	 *
+	 * @return buffered entries in the order of logging
+	 */
+	@Nonnull
+	synchronized List<Entry> drain() {
+		List<Entry> result = new ArrayList<>(entries);
+		entries.clear();
+		return result;
+	}
+}
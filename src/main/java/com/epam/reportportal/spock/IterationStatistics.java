@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aggregated results of tests (feature iterations, features), which are not reported as separate items.
+ */
+class IterationStatistics {
+	static final String ITERATIONS = "iterations";
+	static final String TESTS = "tests";
+
+	private final String prefix;
+	private final Map<ItemStatus, Long> counts = new EnumMap<>(ItemStatus.class);
+	private long total;
+	private long totalDuration;
+	private long minDuration = Long.MAX_VALUE;
+	private long maxDuration;
+
+	/**
+	 * @param prefix name of the aggregated entities, used as attribute keys prefix
+	 */
+	IterationStatistics(@Nonnull String prefix) {
+		this.prefix = prefix;
+	}
+
+	IterationStatistics() {
+		this(ITERATIONS);
+	}
+
+	/**
+	 * Account an iteration result.
+	 *
+	 * @param status   iteration status
+	 * @param duration iteration duration
+	 */
+	synchronized void add(@Nonnull ItemStatus status, @Nonnull Duration duration) {
+		long millis = Math.max(0, duration.toMillis());
+		counts.merge(status, 1L, Long::sum);
+		total++;
+		totalDuration += millis;
+		minDuration = Math.min(minDuration, millis);
+		maxDuration = Math.max(maxDuration, millis);
+	}
+
+	synchronized long getTotal() {
+		return total;
+	}
+
+	synchronized long getCount(@Nonnull ItemStatus status) {
+		return counts.getOrDefault(status, 0L);
+	}
+
+	@Nonnull
+	synchronized Set<ItemAttributesRQ> toAttributes() {
+		Set<ItemAttributesRQ> attributes = new LinkedHashSet<>();
+		attributes.add(new ItemAttributesRQ(prefix, String.valueOf(total)));
+		counts.forEach((status, count) -> attributes.add(new ItemAttributesRQ(
+				prefix + "." + status.name().toLowerCase(),
+				String.valueOf(count)
+		)));
+		if (total > 0) {
+			attributes.add(new ItemAttributesRQ(prefix + ".min.ms", String.valueOf(minDuration)));
+			attributes.add(new ItemAttributesRQ(prefix + ".avg.ms", String.valueOf(totalDuration / total)));
+			attributes.add(new ItemAttributesRQ(prefix + ".max.ms", String.valueOf(maxDuration)));
+		}
+		return attributes;
+	}
+
+	@Nonnull
+	synchronized String toDescription() {
+		StringBuilder builder = new StringBuilder(StringUtils.capitalize(prefix)).append(": ").append(total);
+		counts.forEach((status, count) -> builder.append(", ").append(status.name().toLowerCase()).append(": ").append(count));
+		if (total > 0) {
+			builder.append("\nDuration, ms: min ")
+					.append(minDuration)
+					.append(", avg ")
+					.append(totalDuration / total)
+					.append(", max ")
+					.append(maxDuration)
+					.append(", total ")
+					.append(totalDuration);
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The last phase of a launch: finishes leftover items concurrently and waits for the launch finish, bounded by a
+ * maximum drain time. While draining it periodically logs the number of unanswered requests and the throughput, and
+ * records everything which was abandoned when the time was over.
+ */
+class LaunchDrain {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LaunchDrain.class);
+
+	private final InFlightWindow inFlightWindow;
+	private final int threads;
+	private final long timeout;
+	private final long progressInterval;
+	private final long deadline;
+	private final List<String> abandoned = Collections.synchronizedList(new ArrayList<>());
+
+	private ScheduledExecutorService progress;
+	private long lastCompleted;
+
+	/**
+	 * @param inFlightWindow   reporting requests window, source of the progress numbers
+	 * @param threads          number of threads which finish leftover items, 1 or less means the calling thread
+	 * @param timeout          maximum drain time in milliseconds, 0 or less means no limit
+	 * @param progressInterval progress logging interval in milliseconds, 0 or less means no progress logging
+	 */
+	LaunchDrain(@Nonnull InFlightWindow inFlightWindow, int threads, long timeout, long progressInterval) {
+		this.inFlightWindow = inFlightWindow;
+		this.threads = threads;
+		this.timeout = timeout;
+		this.progressInterval = progressInterval;
+		this.deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : Long.MAX_VALUE;
+	}
+
+	private static ThreadFactory daemonThreads(@Nonnull String name) {
+		AtomicInteger counter = new AtomicInteger();
+		return r -> {
+			Thread thread = new Thread(r, name + "-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * @return time left in milliseconds, {@link Long#MAX_VALUE} if the drain time is not limited
+	 */
+	long getRemaining() {
+		if (deadline == Long.MAX_VALUE) {
+			return Long.MAX_VALUE;
+		}
+		return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+	}
+
+	/**
+	 * Start progress logging.
+	 */
+	void start() {
+		if (progressInterval <= 0) {
+			return;
+		}
+		lastCompleted = inFlightWindow.getCompleted();
+		progress = Executors.newSingleThreadScheduledExecutor(daemonThreads("rp-spock-drain-progress"));
+		progress.scheduleAtFixedRate(this::logProgress, progressInterval, progressInterval, TimeUnit.MILLISECONDS);
+	}
+
+	private void logProgress() {
+		long completed = inFlightWindow.getCompleted();
+		double throughput = (completed - lastCompleted) * 1000.0 / progressInterval;
+		lastCompleted = completed;
+		long remaining = getRemaining();
+		LOGGER.info(
+				"Finishing the launch: {} requests in flight, {} requests/s, {}",
+				inFlightWindow.getInFlight(),
+				String.format("%.1f", throughput),
+				remaining == Long.MAX_VALUE ? "no time limit" : remaining + " ms left"
+		);
+	}
+
+	/**
+	 * Finish items concurrently within the drain time.
+	 *
+	 * @param items    items to finish
+	 * @param finisher item finish action
+	 * @param namer    item name for the abandoned items record
+	 * @param <T>      item type
+	 */
+	<T> void finishAll(@Nonnull Iterable<T> items, @Nonnull Consumer<T> finisher, @Nonnull Function<T, String> namer) {
+		if (threads <= 1 && deadline == Long.MAX_VALUE) {
+			items.forEach(finisher);
+			return;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads), daemonThreads("rp-spock-drain"));
+		try {
+			Map<Future<?>, T> futures = new LinkedHashMap<>();
+			items.forEach(item -> futures.put(executor.submit(() -> finisher.accept(item)), item));
+			futures.forEach((future, item) -> {
+				try {
+					future.get(getRemaining(), TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					future.cancel(true);
+					abandoned.add("item finish: " + namer.apply(item));
+				} catch (ExecutionException e) {
+					LOGGER.error("Unable to finish item: {}", namer.apply(item), e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					future.cancel(true);
+					abandoned.add("item finish: " + namer.apply(item));
+				}
+			});
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Run an action within the drain time. If the time is over, the action is left running on a daemon thread and is
+	 * recorded as abandoned.
+	 *
+	 * @param name   action name for the abandoned actions record
+	 * @param action action to run
+	 */
+	void run(@Nonnull String name, @Nonnull Runnable action) {
+		if (deadline == Long.MAX_VALUE) {
+			action.run();
+			return;
+		}
+		CompletableFuture<Void> future = CompletableFuture.runAsync(
+				action,
+				r -> daemonThreads("rp-spock-drain-" + name.replace(' ', '-')).newThread(r).start()
+		);
+		try {
+			future.get(getRemaining(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			abandoned.add(name);
+		} catch (ExecutionException e) {
+			LOGGER.error("Unable to complete {}", name, e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			abandoned.add(name);
+		}
+	}
+
+	/**
+	 * @return descriptions of the items and actions which were not completed within the drain time
+	 */
+	@Nonnull
+	List<String> getAbandoned() {
+		synchronized (abandoned) {
+			return new ArrayList<>(abandoned);
+		}
+	}
+
+	/**
+	 * Stop progress logging and log the abandoned items and requests, if any.
+	 */
+	void stop() {
+		if (progress != null) {
+			progress.shutdownNow();
+		}
+		List<String> abandonedActions = getAbandoned();
+		if (!abandonedActions.isEmpty()) {
+			LOGGER.warn(
+					"Launch finish took longer than {} ms, abandoned {} requests in flight and: {}",
+					timeout,
+					inFlightWindow.getInFlight(),
+					String.join("; ", abandonedActions)
+			);
+		}
+	}
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shares one launch between test JVMs of the same build, e.g. Gradle forks. Forks meet in the work directory: a lock
+ * file serializes access to a memory-mapped state file, which holds the launch UUID and the process IDs of the forks
+ * which joined the launch.
+ * <p>
+ * The first fork starts the launch, the others join it with the launch UUID, and the last fork to leave finishes it.
+ * The first fork sets the launch UUID in the start request and publishes it to the state before the request is sent,
+ * so the lock is not held during the request.
+ * The others skip the launch finish request but still complete their items and logs. Process IDs of forks which crashed
+ * are dropped from the state on each access, so they don't keep the launch open. A linger time lets the last fork wait
+ * for forks which start right after it, e.g. with Gradle <code>forkEvery</code>.
+ * <p>
+ * Client's own launch join (<code>rp.client.join</code>) is turned off for the launches created by the rendezvous.
+ */
+class LaunchRendezvous {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LaunchRendezvous.class);
+
+	static final String LOCK_FILE = "launch.lock";
+	static final String STATE_FILE = "launch.state";
+
+	private static final int VERSION = 1;
+	private static final int MAX_UUID_LENGTH = 64;
+	private static final int SLOTS = 512;
+	private static final int VERSION_OFFSET = 0;
+	private static final int UUID_LENGTH_OFFSET = 4;
+	private static final int UUID_OFFSET = 8;
+	private static final int SLOTS_OFFSET = UUID_OFFSET + MAX_UUID_LENGTH;
+	private static final int STATE_SIZE = SLOTS_OFFSET + SLOTS * Long.BYTES;
+
+	private static final String FINISH_LAUNCH_METHOD = "finishLaunch";
+
+	private final Path lockFile;
+	private final Path stateFile;
+	private final long lingerTime;
+	private final long pid = ProcessHandle.current().pid();
+	private final ExecutorService executor = createExecutor();
+
+	private volatile boolean joined;
+	private volatile boolean last;
+
+	/**
+	 * @param dir        directory of the lock and state files, must be the same for all forks
+	 * @param lingerTime time in milliseconds the last fork waits for new forks before finishing the launch
+	 */
+	LaunchRendezvous(@Nonnull Path dir, long lingerTime) {
+		this.lockFile = dir.resolve(LOCK_FILE);
+		this.stateFile = dir.resolve(STATE_FILE);
+		this.lingerTime = Math.max(0, lingerTime);
+	}
+
+	private interface StateAction<T> {
+		T apply(@Nonnull MappedByteBuffer state) throws IOException;
+	}
+
+	private <T> T withState(@Nonnull StateAction<T> action) throws IOException {
+		Files.createDirectories(stateFile.toAbsolutePath().getParent());
+		// file locks are held by the whole JVM, so threads of one JVM are serialized separately
+		synchronized (LaunchRendezvous.class) {
+			try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+					FileLock ignored = lockChannel.lock();
+					FileChannel stateChannel = FileChannel.open(
+							stateFile,
+							StandardOpenOption.CREATE,
+							StandardOpenOption.READ,
+							StandardOpenOption.WRITE
+					)) {
+				MappedByteBuffer state = stateChannel.map(FileChannel.MapMode.READ_WRITE, 0, STATE_SIZE);
+				if (state.getInt(VERSION_OFFSET) != VERSION) {
+					for (int i = 0; i < STATE_SIZE; i++) {
+						state.put(i, (byte) 0);
+					}
+					state.putInt(VERSION_OFFSET, VERSION);
+				}
+				T result = action.apply(state);
+				state.force();
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * Drop process IDs of forks which are not alive anymore.
+	 *
+	 * @param state state buffer
+	 * @return number of live forks in the launch
+	 */
+	private static int prune(@Nonnull MappedByteBuffer state) {
+		int live = 0;
+		for (int i = 0; i < SLOTS; i++) {
+			int offset = SLOTS_OFFSET + i * Long.BYTES;
+			long slot = state.getLong(offset);
+			if (slot == 0) {
+				continue;
+			}
+			if (ProcessHandle.of(slot).map(ProcessHandle::isAlive).orElse(Boolean.FALSE)) {
+				live++;
+			} else {
+				LOGGER.warn("Test JVM {} left the shared launch without finishing", slot);
+				state.putLong(offset, 0);
+			}
+		}
+		return live;
+	}
+
+	private void addSelf(@Nonnull MappedByteBuffer state) throws IOException {
+		for (int i = 0; i < SLOTS; i++) {
+			int offset = SLOTS_OFFSET + i * Long.BYTES;
+			if (state.getLong(offset) == 0) {
+				state.putLong(offset, pid);
+				return;
+			}
+		}
+		throw new IOException("Too many test JVMs share the launch, maximum is " + SLOTS);
+	}
+
+	private void removeSelf(@Nonnull MappedByteBuffer state) {
+		for (int i = 0; i < SLOTS; i++) {
+			int offset = SLOTS_OFFSET + i * Long.BYTES;
+			if (state.getLong(offset) == pid) {
+				state.putLong(offset, 0);
+				return;
+			}
+		}
+	}
+
+	@Nullable
+	private static String getUuid(@Nonnull MappedByteBuffer state) {
+		int length = state.getInt(UUID_LENGTH_OFFSET);
+		if (length <= 0 || length > MAX_UUID_LENGTH) {
+			return null;
+		}
+		byte[] uuid = new byte[length];
+		for (int i = 0; i < length; i++) {
+			uuid[i] = state.get(UUID_OFFSET + i);
+		}
+		return new String(uuid, StandardCharsets.US_ASCII);
+	}
+
+	private static void setUuid(@Nonnull MappedByteBuffer state, @Nullable String uuid) {
+		byte[] bytes = uuid == null ? new byte[0] : uuid.getBytes(StandardCharsets.US_ASCII);
+		if (bytes.length > MAX_UUID_LENGTH) {
+			throw new IllegalArgumentException("Launch UUID is too long: " + uuid);
+		}
+		for (int i = 0; i < MAX_UUID_LENGTH; i++) {
+			state.put(UUID_OFFSET + i, i < bytes.length ? bytes[i] : 0);
+		}
+		state.putInt(UUID_LENGTH_OFFSET, bytes.length);
+	}
+
+	/**
+	 * Start a new launch if this is the first fork, or join the launch started by another fork.
+	 *
+	 * @param reportPortal ReportPortal client instance
+	 * @param rq           launch start request, used if the launch is started by this fork, gets the launch UUID then
+	 * @return launch instance, which finishes the launch only if this fork leaves it last, see {@link #leave()}; the
+	 * caller starts it
+	 */
+	@Nonnull
+	Launch join(@Nonnull ReportPortal reportPortal, @Nonnull StartLaunchRQ rq) {
+		// a copy, the parameters of the original client stay as they are
+		ListenerParameters parameters = reportPortal.getParameters().clone();
+		parameters.setClientJoin(false);
+		ReportPortal shared = ReportPortal.create(wrapClient(reportPortal.getClient()), parameters, executor);
+		try {
+			Launch launch = withState(state -> {
+				int live = prune(state);
+				String uuid = live > 0 ? getUuid(state) : null;
+				Launch result;
+				if (uuid == null) {
+					// the launch is started by the caller, after the lock is released
+					if (rq.getUuid() == null) {
+						rq.setUuid(UUID.randomUUID().toString());
+					}
+					result = shared.newLaunch(rq);
+					setUuid(state, rq.getUuid());
+					LOGGER.info("Starting a launch shared with other test JVMs: {}", rq.getUuid());
+				} else {
+					result = shared.withLaunch(Maybe.just(uuid));
+					LOGGER.info("Joined the launch {} started by another test JVM", uuid);
+				}
+				addSelf(state);
+				return result;
+			});
+			joined = true;
+			return launch;
+		} catch (IOException | RuntimeException e) {
+			LOGGER.warn("Unable to join a launch shared with other test JVMs, starting an own launch", e);
+			last = true;
+			return shared.newLaunch(rq);
+		}
+	}
+
+	/**
+	 * Leave the shared launch. Must be called before the launch finish. If this fork is the only one in the launch, it
+	 * lingers first, still being a member of the launch, so forks which start meanwhile join the launch instead of
+	 * starting a new one. Then the fork leaves the launch and, if it's the last one, clears the launch UUID, all in one
+	 * locked step.
+	 *
+	 * @return true if this fork is the last one in the launch and should finish it
+	 */
+	boolean leave() {
+		return leave(true);
+	}
+
+	/**
+	 * Leave the shared launch, see {@link #leave()}.
+	 *
+	 * @param linger false to leave without the linger time, e.g. on the JVM shutdown
+	 * @return true if this fork is the last one in the launch and should finish it
+	 */
+	boolean leave(boolean linger) {
+		if (!joined) {
+			return last;
+		}
+		joined = false;
+		try {
+			// this fork is counted too
+			if (linger && lingerTime > 0 && withState(LaunchRendezvous::prune) <= 1) {
+				// give forks which start right after this one a chance to join, they take over the launch finish
+				Thread.sleep(lingerTime);
+			}
+		} catch (IOException | RuntimeException e) {
+			LOGGER.debug("Unable to check other test JVMs of the shared launch", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		try {
+			last = withState(state -> {
+				removeSelf(state);
+				boolean alone = prune(state) == 0;
+				if (alone) {
+					setUuid(state, null);
+				}
+				return alone;
+			});
+		} catch (IOException | RuntimeException e) {
+			LOGGER.warn("Unable to leave the launch shared with other test JVMs, finishing it", e);
+			last = true;
+		}
+		return last;
+	}
+
+	/**
+	 * Stop reporting threads of the shared launch. Must be called after the launch finish.
+	 */
+	void close() {
+		executor.shutdown();
+	}
+
+	/**
+	 * @return true if this fork left the launch last, or the rendezvous failed
+	 */
+	boolean isLast() {
+		return last;
+	}
+
+	/**
+	 * Wrap the client to skip the launch finish request, unless this fork left the launch last.
+	 */
+	@Nonnull
+	private ReportPortalClient wrapClient(@Nonnull ReportPortalClient client) {
+		return (ReportPortalClient) Proxy.newProxyInstance(
+				ReportPortalClient.class.getClassLoader(), new Class<?>[] { ReportPortalClient.class }, (proxy, method, args) -> {
+					if (FINISH_LAUNCH_METHOD.equals(method.getName()) && !last) {
+						LOGGER.info("Launch finish is left to the last test JVM");
+						return Maybe.just(new OperationCompletionRS("Launch finish is left to the last test JVM"));
+					}
+					try {
+						return method.invoke(client, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				}
+		);
+	}
+
+	@Nonnull
+	private static ExecutorService createExecutor() {
+		AtomicInteger counter = new AtomicInteger();
+		return Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "rp-spock-shared-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.MAPPER;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Local file journal of reporting requests. It is used instead of ReportPortal server when the server is unreachable or
+ * too slow, and for items which were not published when the JVM is shut down. Every request is written as a single JSON
+ * line, so the journal can be uploaded later with {@link #replay(Path, ReportPortal)}.
+ * <p>
+ * Items are referenced by local identifiers. A journal can also continue a launch, which was started on the server, see
+ * {@link #resumeLaunch(String)}. Items, which were started on the server before the agent switched to the journal, are
+ * bound to local references with their UUIDs, see {@link #serverItem(String)}, so their journaled children, logs and
+ * finishes go to the same items during the replay.
+ */
+public class LocalJournal implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LocalJournal.class);
+
+	static final String START_LAUNCH = "start_launch";
+	static final String RESUME_LAUNCH = "resume_launch";
+	static final String SERVER_ITEM = "server_item";
+	static final String START_ITEM = "start_item";
+	static final String FINISH_ITEM = "finish_item";
+	static final String LOG = "log";
+	static final String FINISH_LAUNCH = "finish_launch";
+
+	private static final String EVENT = "event";
+	private static final String ID = "id";
+	private static final String PARENT = "parent";
+	private static final String UUID = "uuid";
+	private static final String TIME = "time";
+	private static final String REQUEST = "rq";
+	private static final String LEVEL = "level";
+	private static final String MESSAGE = "message";
+	private static final String START_TIME = "startTime";
+	private static final String END_TIME = "endTime";
+
+	private final Path file;
+	private final BufferedWriter writer;
+	private final AtomicLong counter = new AtomicLong();
+
+	public LocalJournal(@Nonnull Path file) throws IOException {
+		this.file = file;
+		ofNullable(file.toAbsolutePath().getParent()).ifPresent(p -> {
+			try {
+				Files.createDirectories(p);
+			} catch (IOException e) {
+				LOGGER.warn("Unable to create journal directory: {}", p, e);
+			}
+		});
+		writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+	}
+
+	@Nonnull
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * @return a new unique local reference
+	 */
+	@Nonnull
+	String newReference() {
+		return "local-" + counter.incrementAndGet();
+	}
+
+	@Nonnull
+	public String startLaunch(@Nonnull StartLaunchRQ rq) {
+		String id = newReference();
+		write(START_LAUNCH, id, null, rq);
+		return id;
+	}
+
+	/**
+	 * Continue a launch, which was started on ReportPortal server, instead of starting a new one.
+	 *
+	 * @param launchUuid server launch UUID
+	 */
+	public void resumeLaunch(@Nonnull String launchUuid) {
+		ObjectNode node = MAPPER.createObjectNode();
+		node.put(EVENT, RESUME_LAUNCH);
+		node.put(UUID, launchUuid);
+		node.put(TIME, Instant.now().toString());
+		writeLine(node);
+	}
+
+	/**
+	 * Bind a local reference to an item, which was started on ReportPortal server, to use it for the item's children, logs
+	 * and finish. Applies to a resumed launch only.
+	 *
+	 * @param itemUuid server item UUID
+	 * @return local reference of the item
+	 */
+	@Nonnull
+	public String serverItem(@Nonnull String itemUuid) {
+		String id = newReference();
+		ObjectNode node = MAPPER.createObjectNode();
+		node.put(EVENT, SERVER_ITEM);
+		node.put(ID, id);
+		node.put(UUID, itemUuid);
+		node.put(TIME, Instant.now().toString());
+		writeLine(node);
+		return id;
+	}
+
+	@Nonnull
+	public String startItem(@Nullable String parentId, @Nonnull StartTestItemRQ rq) {
+		String id = newReference();
+		write(START_ITEM, id, parentId, rq);
+		return id;
+	}
+
+	public void finishItem(@Nonnull String id, @Nonnull FinishTestItemRQ rq) {
+		write(FINISH_ITEM, id, null, rq);
+	}
+
+	/**
+	 * Finish an item, which was started on ReportPortal server.
+	 *
+	 * @param itemUuid server item UUID
+	 * @param rq       finish request
+	 */
+	public void finishServerItem(@Nonnull String itemUuid, @Nonnull FinishTestItemRQ rq) {
+		ObjectNode node = toNode(FINISH_ITEM, null, null, rq);
+		node.put(UUID, itemUuid);
+		writeLine(node);
+	}
+
+	public void log(@Nullable String id, @Nonnull String level, @Nonnull String message) {
+		ObjectNode node = MAPPER.createObjectNode();
+		node.put(EVENT, LOG);
+		node.put(ID, id);
+		node.put(TIME, Instant.now().toString());
+		node.put(LEVEL, level);
+		node.put(MESSAGE, message);
+		writeLine(node);
+	}
+
+	public void finishLaunch(@Nonnull FinishExecutionRQ rq) {
+		write(FINISH_LAUNCH, null, null, rq);
+	}
+
+	private void write(@Nonnull String event, @Nullable String id, @Nullable String parentId, @Nonnull Object rq) {
+		writeLine(toNode(event, id, parentId, rq));
+	}
+
+	@Nonnull
+	private static ObjectNode toNode(@Nonnull String event, @Nullable String id, @Nullable String parentId, @Nonnull Object rq) {
+		ObjectNode node = MAPPER.createObjectNode();
+		node.put(EVENT, event);
+		node.put(ID, id);
+		node.put(PARENT, parentId);
+		// request time is stored separately to not depend on the request models time deserialization
+		Object time = rq instanceof StartRQ ? ((StartRQ) rq).getStartTime() : ((FinishExecutionRQ) rq).getEndTime();
+		node.put(TIME, ofNullable(time).map(Object::toString).orElseGet(() -> Instant.now().toString()));
+		ObjectNode request = MAPPER.valueToTree(rq);
+		request.remove(START_TIME);
+		request.remove(END_TIME);
+		node.set(REQUEST, request);
+		return node;
+	}
+
+	private synchronized void writeLine(@Nonnull JsonNode node) {
+		try {
+			writer.write(MAPPER.writeValueAsString(node));
+			writer.newLine();
+			writer.flush();
+		} catch (IOException e) {
+			LOGGER.error("Unable to write reporting journal: {}", file, e);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		try {
+			writer.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close reporting journal: {}", file, e);
+		}
+	}
+
+	@Nullable
+	private static Instant parseTime(@Nonnull JsonNode node) {
+		try {
+			return Instant.parse(node.path(TIME).asText());
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Upload a journal, written by the agent in fail-open mode or on the JVM shutdown, to ReportPortal server.
+	 *
+	 * @param journal      journal file
+	 * @param reportPortal ReportPortal client instance to use
+	 * @throws IOException if the journal can't be read
+	 */
+	public static void replay(@Nonnull Path journal, @Nonnull ReportPortal reportPortal) throws IOException {
+		Map<String, Maybe<String>> ids = new HashMap<>();
+		Launch launch = null;
+		Maybe<String> launchUuid = null;
+		int orphanLogs = 0;
+		try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				JsonNode node = MAPPER.readTree(line);
+				String event = node.path(EVENT).asText();
+				String id = node.path(ID).asText(null);
+				Instant time = ofNullable(parseTime(node)).orElseGet(Instant::now);
+				if (START_LAUNCH.equals(event)) {
+					StartLaunchRQ rq = MAPPER.treeToValue(node.get(REQUEST), StartLaunchRQ.class);
+					rq.setStartTime(time);
+					launch = reportPortal.newLaunch(rq);
+					launchUuid = launch.start();
+					ids.put(id, launchUuid);
+					continue;
+				}
+				if (RESUME_LAUNCH.equals(event)) {
+					launchUuid = Maybe.just(node.path(UUID).asText());
+					launch = reportPortal.withLaunch(launchUuid);
+					continue;
+				}
+				if (launch == null) {
+					throw new IOException("Journal doesn't start with a launch: " + journal);
+				}
+				switch (event) {
+					case SERVER_ITEM:
+						ids.put(id, Maybe.just(node.path(UUID).asText()));
+						break;
+					case START_ITEM:
+						StartTestItemRQ startRq = MAPPER.treeToValue(node.get(REQUEST), StartTestItemRQ.class);
+						startRq.setStartTime(time);
+						Maybe<String> parent = ids.get(node.path(PARENT).asText(null));
+						ids.put(id, parent == null ? launch.startTestItem(startRq) : launch.startTestItem(parent, startRq));
+						break;
+					case FINISH_ITEM:
+						FinishTestItemRQ finishRq = MAPPER.treeToValue(node.get(REQUEST), FinishTestItemRQ.class);
+						finishRq.setEndTime(time);
+						String serverUuid = node.path(UUID).asText(null);
+						Maybe<String> itemId = serverUuid != null ? Maybe.just(serverUuid) : ids.remove(id);
+						if (itemId != null) {
+							//noinspection ReactiveStreamsUnusedPublisher
+							launch.finishTestItem(itemId, finishRq);
+						}
+						break;
+					case LOG:
+						Maybe<String> logItemId = id == null ? null : ids.get(id);
+						if (logItemId == null && id != null) {
+							orphanLogs++;
+						}
+						// launch logs and logs of unknown items are replayed as launch logs
+						boolean launchLog = logItemId == null;
+						String level = node.path(LEVEL).asText();
+						String message = node.path(MESSAGE).asText();
+						launch.log(launchLog ? launchUuid : logItemId, uuid -> {
+							SaveLogRQ rq = new SaveLogRQ();
+							if (launchLog) {
+								rq.setLaunchUuid(uuid);
+							} else {
+								rq.setItemUuid(uuid);
+							}
+							rq.setLevel(level);
+							rq.setLogTime(time);
+							rq.setMessage(message);
+							return rq;
+						});
+						break;
+					case FINISH_LAUNCH:
+						FinishExecutionRQ finishLaunchRq = MAPPER.treeToValue(node.get(REQUEST), FinishExecutionRQ.class);
+						finishLaunchRq.setEndTime(time);
+						launch.finish(finishLaunchRq);
+						launch = null;
+						break;
+					default:
+						LOGGER.warn("Unknown journal event: {}", event);
+				}
+			}
+		}
+		if (orphanLogs > 0) {
+			LOGGER.warn("{} journal logs referenced unknown items and were replayed as launch logs", orphanLogs);
+		}
+	}
+}
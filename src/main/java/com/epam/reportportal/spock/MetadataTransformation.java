@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.annotations.TestCaseId;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.spock.annotations.ReportingMetadata;
+import com.epam.reportportal.spock.annotations.SpecMetadata;
+import org.codehaus.groovy.ast.*;
+import org.codehaus.groovy.ast.expr.AnnotationConstantExpression;
+import org.codehaus.groovy.ast.expr.ConstantExpression;
+import org.codehaus.groovy.ast.expr.Expression;
+import org.codehaus.groovy.ast.expr.ListExpression;
+import org.codehaus.groovy.control.CompilePhase;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codehaus.groovy.transform.AbstractASTTransformation;
+import org.codehaus.groovy.transform.GroovyASTTransformation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compile-time transformation for specifications annotated with {@link ReportingMetadata}. Adds {@link SpecMetadata}
+ * with the code reference, test case IDs and attributes of the specification and its features, so the agent doesn't
+ * need to reflect on them at runtime. It runs after Spock's own transformation, when feature methods are already marked
+ * with Spock's feature metadata.
+ * <p>
+ * Annotation values are stored only if they are compile-time constants in the forms which have an unambiguous meaning:
+ * non-blank keys and values, a not parametrized test case ID. Other annotations are only marked as present and are read
+ * with reflection at runtime.
+ */
+@GroovyASTTransformation(phase = CompilePhase.CANONICALIZATION)
+public class MetadataTransformation extends AbstractASTTransformation {
+	private static final String SPECIFICATION = "spock.lang.Specification";
+	private static final String FEATURE_METADATA = "org.spockframework.runtime.model.FeatureMetadata";
+	private static final ClassNode SPEC_METADATA = ClassHelper.make(SpecMetadata.class);
+	private static final ClassNode FEATURE = ClassHelper.make(SpecMetadata.Feature.class);
+	private static final ClassNode ATTRIBUTE = ClassHelper.make(SpecMetadata.Attribute.class);
+	private static final Set<String> ATTRIBUTES_MEMBERS = Set.of(
+			"attributes",
+			"attributeValues",
+			"multiKeyAttributes",
+			"multiValueAttributes"
+	);
+
+	@Override
+	public void visit(ASTNode[] nodes, SourceUnit source) {
+		init(nodes, source);
+		if (!(nodes[1] instanceof ClassNode)) {
+			return;
+		}
+		ClassNode type = (ClassNode) nodes[1];
+		if (!isSpecification(type)) {
+			addError("@" + ReportingMetadata.class.getSimpleName() + " is applicable to Spock specifications only", type);
+			return;
+		}
+		if (type.getAnnotations(SPEC_METADATA).isEmpty()) {
+			type.addAnnotation(buildSpecMetadata(type));
+		}
+	}
+
+	private static boolean isSpecification(ClassNode type) {
+		if (type.isInterface() || type.isAnnotationDefinition()) {
+			return false;
+		}
+		for (ClassNode current = type.getSuperClass(); current != null; current = current.getSuperClass()) {
+			if (SPECIFICATION.equals(current.getName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static AnnotationNode findAnnotation(AnnotatedNode node, String type) {
+		for (AnnotationNode annotation : node.getAnnotations()) {
+			if (type.equals(annotation.getClassNode().getName())) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	private static ConstantExpression booleanX(boolean value) {
+		return value ? ConstantExpression.PRIM_TRUE : ConstantExpression.PRIM_FALSE;
+	}
+
+	private static String getCanonicalName(ClassNode type) {
+		ClassNode outer = type.getOuterClass();
+		if (outer == null) {
+			return type.getName();
+		}
+		String name = type.getName();
+		return getCanonicalName(outer) + "." + name.substring(name.lastIndexOf('$') + 1);
+	}
+
+	private static List<Expression> asList(Expression value) {
+		if (value == null) {
+			return Collections.emptyList();
+		}
+		return value instanceof ListExpression ? ((ListExpression) value).getExpressions() : Collections.singletonList(value);
+	}
+
+	/**
+	 * @return the string, null if it's not a non-blank compile-time constant
+	 */
+	private static String getText(Expression value) {
+		if (value instanceof ConstantExpression && ((ConstantExpression) value).getValue() instanceof String) {
+			String text = (String) ((ConstantExpression) value).getValue();
+			return text.trim().isEmpty() ? null : text;
+		}
+		return null;
+	}
+
+	/**
+	 * @return the flag, the default value if it's not set, null if it's not a compile-time constant
+	 */
+	private static Boolean getFlag(Expression value, boolean defaultValue) {
+		if (value == null) {
+			return defaultValue;
+		}
+		if (value instanceof ConstantExpression && ((ConstantExpression) value).getValue() instanceof Boolean) {
+			return (Boolean) ((ConstantExpression) value).getValue();
+		}
+		return null;
+	}
+
+	/**
+	 * @return nested annotations of the member, null if any of them is not a compile-time constant
+	 */
+	private static List<AnnotationNode> getAnnotations(AnnotationNode annotation, String member) {
+		List<AnnotationNode> result = new ArrayList<>();
+		for (Expression value : asList(annotation.getMember(member))) {
+			if (!(value instanceof AnnotationConstantExpression)) {
+				return null;
+			}
+			result.add((AnnotationNode) ((AnnotationConstantExpression) value).getValue());
+		}
+		return result;
+	}
+
+	private static Expression attributeX(String key, String value) {
+		AnnotationNode attribute = new AnnotationNode(ATTRIBUTE);
+		if (key == null) {
+			attribute.setMember("nullKey", ConstantExpression.PRIM_TRUE);
+		} else {
+			attribute.setMember("key", new ConstantExpression(key));
+		}
+		attribute.setMember("value", new ConstantExpression(value));
+		return new AnnotationConstantExpression(attribute);
+	}
+
+	/**
+	 * Resolve item attributes of an {@link Attributes} annotation.
+	 *
+	 * @param annotation attributes annotation
+	 * @return attribute annotations, null if the values can't be resolved at compile time
+	 */
+	private static List<Expression> resolveAttributes(AnnotationNode annotation) {
+		if (!ATTRIBUTES_MEMBERS.containsAll(annotation.getMembers().keySet())) {
+			return null;
+		}
+		List<AnnotationNode> attributes = getAnnotations(annotation, "attributes");
+		List<AnnotationNode> attributeValues = getAnnotations(annotation, "attributeValues");
+		List<AnnotationNode> multiKeyAttributes = getAnnotations(annotation, "multiKeyAttributes");
+		List<AnnotationNode> multiValueAttributes = getAnnotations(annotation, "multiValueAttributes");
+		if (attributes == null || attributeValues == null || multiKeyAttributes == null || multiValueAttributes == null) {
+			return null;
+		}
+		List<Expression> result = new ArrayList<>();
+		for (AnnotationNode attribute : attributes) {
+			String key = getText(attribute.getMember("key"));
+			String value = getText(attribute.getMember("value"));
+			if (key == null || value == null) {
+				return null;
+			}
+			result.add(attributeX(key, value));
+		}
+		for (AnnotationNode attribute : attributeValues) {
+			String value = getText(attribute.getMember("value"));
+			if (value == null) {
+				return null;
+			}
+			result.add(attributeX(null, value));
+		}
+		for (AnnotationNode attribute : multiKeyAttributes) {
+			String value = getText(attribute.getMember("value"));
+			List<Expression> keys = asList(attribute.getMember("keys"));
+			if (value == null || keys.isEmpty()) {
+				return null;
+			}
+			for (Expression keyExpression : keys) {
+				String key = getText(keyExpression);
+				if (key == null) {
+					return null;
+				}
+				result.add(attributeX(key, value));
+			}
+		}
+		for (AnnotationNode attribute : multiValueAttributes) {
+			Boolean nullKey = getFlag(attribute.getMember("isNullKey"), false);
+			String key = Boolean.FALSE.equals(nullKey) ? getText(attribute.getMember("key")) : null;
+			if (nullKey == null || (!nullKey && key == null)) {
+				return null;
+			}
+			List<Expression> values = asList(attribute.getMember("values"));
+			if (values.isEmpty()) {
+				return null;
+			}
+			for (Expression valueExpression : values) {
+				String value = getText(valueExpression);
+				if (value == null) {
+					return null;
+				}
+				result.add(attributeX(key, value));
+			}
+		}
+		return result;
+	}
+
+	private static void setAttributes(AnnotationNode metadata, AnnotatedNode node) {
+		AnnotationNode attributes = findAnnotation(node, Attributes.class.getName());
+		metadata.setMember("attributes", booleanX(attributes != null));
+		List<Expression> values = attributes == null ? null : resolveAttributes(attributes);
+		if (values != null) {
+			metadata.setMember("attributesResolved", ConstantExpression.PRIM_TRUE);
+			metadata.setMember("attributeValues", new ListExpression(values));
+		}
+	}
+
+	private static void setTestCaseId(AnnotationNode feature, MethodNode method) {
+		AnnotationNode testCaseId = findAnnotation(method, TestCaseId.class.getName());
+		feature.setMember("testCaseId", booleanX(testCaseId != null));
+		if (testCaseId == null || !Boolean.FALSE.equals(getFlag(testCaseId.getMember("parametrized"), false))) {
+			return;
+		}
+		String value = getText(testCaseId.getMember("value"));
+		if (value != null) {
+			feature.setMember("testCaseIdValue", new ConstantExpression(value));
+		}
+	}
+
+	private static AnnotationNode buildSpecMetadata(ClassNode type) {
+		List<Expression> features = new ArrayList<>();
+		for (MethodNode method : type.getMethods()) {
+			AnnotationNode featureMetadata = findAnnotation(method, FEATURE_METADATA);
+			if (featureMetadata == null || !(featureMetadata.getMember("name") instanceof ConstantExpression)) {
+				continue;
+			}
+			AnnotationNode feature = new AnnotationNode(FEATURE);
+			feature.setMember("name", featureMetadata.getMember("name"));
+			feature.setMember("method", new ConstantExpression(method.getName()));
+			setTestCaseId(feature, method);
+			setAttributes(feature, method);
+			features.add(new AnnotationConstantExpression(feature));
+		}
+		AnnotationNode metadata = new AnnotationNode(SPEC_METADATA);
+		metadata.setRuntimeRetention(true);
+		metadata.setMember("codeRef", new ConstantExpression(getCanonicalName(type)));
+		setAttributes(metadata, type);
+		metadata.setMember("features", new ListExpression(features));
+		return metadata;
+	}
+}
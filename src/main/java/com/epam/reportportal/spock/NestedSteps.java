@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.annotations.Step;
+import com.epam.reportportal.aspect.StepNameUtils;
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.reportportal.service.Launch;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.StringUtils;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports nested steps of methods, annotated with {@link Step}, without AspectJ weaving. Calls are generated by
+ * {@link StepTransformation} into classes annotated with {@link com.epam.reportportal.spock.annotations.Steps} and made
+ * by {@link StepInterceptor} for specification feature and fixture methods. Step names are made by the client
+ * {@link StepNameUtils}, so templates work the same way as with weaving. If the AspectJ weaver agent is attached, the
+ * steps are left to the client aspect.
+ */
+public final class NestedSteps {
+	private static final class RunningStep {
+		private final Launch launch;
+		private boolean finished;
+
+		private RunningStep(@Nullable Launch launch) {
+			this.launch = launch;
+			finished = launch == null;
+		}
+	}
+
+	private static final ThreadLocal<Deque<RunningStep>> STEPS = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private static final Map<List<Object>, Method> METHODS = new ConcurrentHashMap<>();
+
+	private NestedSteps() {
+	}
+
+	/**
+	 * Make a step name with the client step name utilities.
+	 *
+	 * @param step        step annotation
+	 * @param method      step method
+	 * @param defaultName step name if the annotation has no template
+	 * @param names       method parameter names
+	 * @param target      object the method is called on, null for static methods
+	 * @param args        method arguments
+	 * @return step name
+	 */
+	@Nonnull
+	static String getStepName(@Nonnull Step step, @Nonnull Method method, @Nonnull String defaultName, @Nonnull String[] names,
+			@Nullable Object target, @Nonnull Object[] args) {
+		if (StringUtils.isBlank(step.value())) {
+			return defaultName;
+		}
+		MethodSignature signature = (MethodSignature) Proxy.newProxyInstance(
+				MethodSignature.class.getClassLoader(), new Class<?>[] { MethodSignature.class }, (proxy, m, a) -> {
+					switch (m.getName()) {
+						case "getMethod":
+							return method;
+						case "getName":
+							return method.getName();
+						case "getParameterNames":
+							return names;
+						case "getParameterTypes":
+							return method.getParameterTypes();
+						case "getExceptionTypes":
+							return method.getExceptionTypes();
+						case "getReturnType":
+							return method.getReturnType();
+						case "getModifiers":
+							return method.getModifiers();
+						case "getDeclaringType":
+							return method.getDeclaringClass();
+						case "getDeclaringTypeName":
+							return method.getDeclaringClass().getName();
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						case "equals":
+							return proxy == a[0];
+						default:
+							return method.toString();
+					}
+				}
+		);
+		JoinPoint joinPoint = (JoinPoint) Proxy.newProxyInstance(
+				JoinPoint.class.getClassLoader(), new Class<?>[] { JoinPoint.class }, (proxy, m, a) -> {
+					switch (m.getName()) {
+						case "getThis":
+						case "getTarget":
+							return target;
+						case "getArgs":
+							return args.clone();
+						case "getSignature":
+							return signature;
+						case "getKind":
+							return JoinPoint.METHOD_EXECUTION;
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						case "equals":
+							return proxy == a[0];
+						default:
+							return "execution(" + method + ")";
+					}
+				}
+		);
+		return StepNameUtils.getStepName(step, signature, joinPoint);
+	}
+
+	/**
+	 * Start a nested step in the given launch.
+	 *
+	 * @param launch      current launch, if null the step is only tracked
+	 * @param name        step name
+	 * @param description step description
+	 */
+	static void start(@Nullable Launch launch, @Nonnull String name, @Nullable String description) {
+		if (launch != null) {
+			StartTestItemRQ rq = new StartTestItemRQ();
+			rq.setName(name);
+			rq.setDescription(StringUtils.isBlank(description) ? null : description);
+			rq.setType(ItemType.STEP.name());
+			rq.setHasStats(false);
+			rq.setStartTime(Instant.now());
+			launch.getStepReporter().startNestedStep(rq);
+		}
+		STEPS.get().push(new RunningStep(launch));
+	}
+
+	/**
+	 * Start a nested step of a method in the current launch. Called by the code generated by {@link StepTransformation}.
+	 *
+	 * @param type           class which declares the method
+	 * @param method         method name
+	 * @param parameterTypes method parameter types
+	 * @param defaultName    step name if the annotation has no template
+	 * @param names          method parameter names
+	 * @param target         object the method is called on, null for static methods
+	 * @param args           method arguments
+	 */
+	public static void start(@Nonnull Class<?> type, @Nonnull String method, @Nonnull Class<?>[] parameterTypes,
+			@Nonnull String defaultName, @Nonnull String[] names, @Nullable Object target, @Nonnull Object[] args) {
+		if (StepInterceptor.isWeaverActive()) {
+			// the client aspect reports the step
+			start(null, defaultName, null);
+			return;
+		}
+		Method reflection = METHODS.computeIfAbsent(Arrays.asList(type, method, Arrays.asList(parameterTypes)), k -> {
+			try {
+				return type.getDeclaredMethod(method, parameterTypes);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException("Unable to find step method " + method + " of " + type.getName(), e);
+			}
+		});
+		Step step = reflection.getAnnotation(Step.class);
+		start(Launch.currentLaunch(), getStepName(step, reflection, defaultName, names, target, args), step.description());
+	}
+
+	/**
+	 * Finish the current step as failed. The step keeps its place until {@link #finish()} call.
+	 *
+	 * @param error step error
+	 */
+	public static void fail(@Nonnull Throwable error) {
+		RunningStep step = STEPS.get().peek();
+		if (step != null && !step.finished) {
+			step.finished = true;
+			step.launch.getStepReporter().finishNestedStep(error);
+		}
+	}
+
+	/**
+	 * Finish the current step, if it's not finished as failed already.
+	 */
+	public static void finish() {
+		RunningStep step = STEPS.get().poll();
+		if (step != null && !step.finished) {
+			step.finished = true;
+			step.launch.getStepReporter().finishNestedStep();
+		}
+	}
+}
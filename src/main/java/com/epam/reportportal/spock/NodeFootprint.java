@@ -56,6 +56,10 @@ public abstract class NodeFootprint<T extends NodeInfo<?, ? extends AnnotatedEle
 		fixtures.add(footprint);
 	}
 
+	void removeFixtureFootprint(ReportableItemFootprint<MethodInfo> footprint) {
+		fixtures.remove(footprint);
+	}
+
 	List<ReportableItemFootprint<MethodInfo>> getFixtures() {
 		return new ArrayList<>(fixtures);
 	}
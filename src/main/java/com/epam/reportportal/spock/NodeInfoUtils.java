@@ -81,7 +81,17 @@ final class NodeInfoUtils {
 	}
 
 	static String buildIterationDescription(IterationInfo iterationInfo) {
-		String featureDescription = buildFeatureDescription(iterationInfo.getFeature());
+		return buildIterationDescription(iterationInfo, buildFeatureDescription(iterationInfo.getFeature()));
+	}
+
+	/**
+	 * Create textual description for the provided iteration info based on an already built feature description.
+	 *
+	 * @param iterationInfo      target iteration info
+	 * @param featureDescription description of the iteration feature
+	 * @return description
+	 */
+	static String buildIterationDescription(IterationInfo iterationInfo, String featureDescription) {
 		return unrollIterationDescription(iterationInfo, featureDescription);
 	}
 
@@ -15,47 +15,119 @@
  */
 package com.epam.reportportal.spock;
 
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spockframework.runtime.extension.IGlobalExtension;
 import org.spockframework.runtime.model.SpecInfo;
 
+import java.util.function.Supplier;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
 /**
  * Implementation of {@link org.spockframework.runtime.extension.IGlobalExtension}, which provides the
  * integration with Report Portal.
+ * <p>
+ * If reporting is disabled with <code>rp.enable=false</code> property, or ReportPortal endpoint or project are not
+ * configured, the extension does nothing: the client is not initialized, and no listeners or interceptors are added to
+ * specifications.
  *
  * @author Dzmitry Mikhievich
  */
 public class ReportPortalSpockExtension implements IGlobalExtension {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReportPortalSpockExtension.class);
 
-	private final ReportPortalSpockListener reportingRunListener;
+	private final Supplier<ReportPortalSpockListener> listenerFactory;
+	private volatile ReportPortalSpockListener reportingRunListener;
+	private volatile boolean nativeSteps;
+	private volatile Thread shutdownHook;
 
 	public ReportPortalSpockExtension(ReportPortalSpockListener listener) {
-		reportingRunListener = listener;
+		listenerFactory = () -> listener;
 	}
 
 	@SuppressWarnings("unused")
 	public ReportPortalSpockExtension() {
-		this(new ReportPortalSpockListener());
+		listenerFactory = ReportPortalSpockExtension::createListener;
+	}
+
+	/**
+	 * @param parameters ReportPortal client parameters
+	 * @return true if reporting is enabled and ReportPortal endpoint and project are configured
+	 */
+	static boolean isReportingEnabled(@Nonnull ListenerParameters parameters) {
+		return !Boolean.FALSE.equals(parameters.getEnable()) && !isBlank(parameters.getBaseUrl()) && !isBlank(parameters.getProjectName());
+	}
+
+	private static ReportPortalSpockListener createListener() {
+		PropertiesLoader properties = PropertiesLoader.load();
+		ListenerParameters parameters = new ListenerParameters(properties);
+		if (!isReportingEnabled(parameters)) {
+			return null;
+		}
+		return new ReportPortalSpockListener(
+				ReportPortal.builder().withParameters(parameters).build(),
+				new SpockParameters(properties)
+		);
 	}
 
 	@Override
 	public void start() {
+		ReportPortalSpockListener listener = listenerFactory.get();
+		if (listener == null) {
+			LOGGER.info("ReportPortal reporting is disabled or not configured");
+			return;
+		}
+		reportingRunListener = listener;
+		nativeSteps = listener.getSpockParameters().isNativeSteps() && !StepInterceptor.isWeaverActive();
+		if (listener.getSpockParameters().isShutdownHook()) {
+			Thread hook = new Thread(listener::emergencyFinish, "rp-spock-shutdown");
+			Runtime.getRuntime().addShutdownHook(hook);
+			shutdownHook = hook;
+		}
 		LOGGER.info("\"LAUNCHING\" the test run");
-		//noinspection ReactiveStreamsUnusedPublisher
-		reportingRunListener.startLaunch();
+		if (listener.getSpockParameters().isBackgroundStart()) {
+			listener.startLaunchInBackground();
+		} else {
+			//noinspection ReactiveStreamsUnusedPublisher
+			listener.startLaunch();
+		}
 	}
 
 	@Override
 	public void visitSpec(SpecInfo spec) {
+		ReportPortalSpockListener listener = reportingRunListener;
+		if (listener == null) {
+			return;
+		}
 		LOGGER.info("Visiting spec: " + spec.getName());
-		spec.addListener(reportingRunListener);
+		spec.addListener(listener);
+		listener.prepareSpec(spec);
+		if (nativeSteps) {
+			StepInterceptor.register(spec, listener.getLaunch());
+		}
 	}
 
 	@Override
 	public void stop() {
+		ReportPortalSpockListener listener = reportingRunListener;
+		if (listener == null) {
+			return;
+		}
 		LOGGER.info("\"LAUNCH\" completed");
-		reportingRunListener.finishLaunch();
+		listener.finishLaunch();
+		Thread hook = shutdownHook;
+		if (hook != null) {
+			shutdownHook = null;
+			try {
+				Runtime.getRuntime().removeShutdownHook(hook);
+			} catch (IllegalStateException e) {
+				// the JVM is already shutting down, the hook does nothing since the launch is finished
+			}
+		}
 	}
 }
@@ -19,20 +19,28 @@ import com.epam.reportportal.annotations.TestCaseId;
 import com.epam.reportportal.annotations.attribute.Attributes;
 import com.epam.reportportal.exception.ReportPortalException;
 import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ItemType;
 import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.listeners.LogLevel;
 import com.epam.reportportal.service.Launch;
 import com.epam.reportportal.service.ReportPortal;
 import com.epam.reportportal.service.item.TestCaseIdEntry;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.spock.annotations.AttachOnFailure;
 import com.epam.reportportal.spock.utils.SystemAttributesFetcher;
 import com.epam.reportportal.utils.*;
 import com.epam.reportportal.utils.formatting.ExceptionUtils;
 import com.epam.reportportal.utils.formatting.MarkdownUtils;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
 import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
 import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
@@ -43,12 +51,27 @@ import org.slf4j.LoggerFactory;
 import org.spockframework.runtime.AbstractRunListener;
 import org.spockframework.runtime.model.*;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Array;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -57,6 +80,7 @@ import java.util.stream.StreamSupport;
 import static com.epam.reportportal.listeners.ItemStatus.*;
 import static com.epam.reportportal.spock.NodeInfoUtils.*;
 import static com.epam.reportportal.spock.ReportableItemFootprint.IS_NOT_PUBLISHED;
+import static com.epam.reportportal.utils.http.HttpRequestUtils.MAPPER;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.spockframework.runtime.model.MethodKind.*;
@@ -68,6 +92,8 @@ import static org.spockframework.runtime.model.MethodKind.*;
  */
 public class ReportPortalSpockListener extends AbstractRunListener {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReportPortalSpockListener.class);
+	// how long reporting calls of other threads wait for the launch start by the thread which prepared it, milliseconds
+	private static final long LAUNCH_STARTUP_WAIT = 30_000L;
 
 	private static final Method[] ITERATION_METHODS = IterationInfo.class.getMethods();
 	private static final Method DISPLAY_NAME_METHOD = Arrays.stream(ITERATION_METHODS)
@@ -81,6 +107,8 @@ public class ReportPortalSpockListener extends AbstractRunListener {
 	private final MemoizingSupplier<Launch> launch;
 	private final Map<Maybe<String>, Pair<String, String>> errorDescriptionMap = new ConcurrentHashMap<>();
 
+	private static final String DROPPED_ITEM_ID = "dropped";
+
 	// stores the bindings of Spock method kinds to the RP-specific notation
 	private static final Map<MethodKind, String> ITEM_TYPES_REGISTRY = Map.of(
 			SPEC_EXECUTION,
@@ -97,8 +125,188 @@ public class ReportPortalSpockListener extends AbstractRunListener {
 			"AFTER_CLASS"
 	);
 
+	private static final Set<String> FIXTURE_ITEM_TYPES = Set.of(
+			ITEM_TYPES_REGISTRY.get(SETUP_SPEC),
+			ITEM_TYPES_REGISTRY.get(SETUP),
+			ITEM_TYPES_REGISTRY.get(CLEANUP),
+			ITEM_TYPES_REGISTRY.get(CLEANUP_SPEC)
+	);
+
 	private ListenerParameters launchParameters;
 	private final AbstractLaunchContext launchContext;
+	private final SpockParameters spockParameters;
+
+	// fail-open mode state, the health monitor is null if the mode is disabled
+	private final ReportingHealthMonitor healthMonitor;
+	private volatile boolean failedOpen;
+
+	// local journal, which is used in fail-open mode
+	private final Map<Maybe<String>, String> journalReferences = new ConcurrentHashMap<>();
+	private final Set<Maybe<String>> journaledItems = ConcurrentHashMap.newKeySet();
+	private volatile LocalJournal journal;
+	private volatile String journalLaunchReference;
+
+	private final InFlightWindow inFlightWindow;
+	private final Set<Maybe<String>> droppedItems = ConcurrentHashMap.newKeySet();
+	// item starts spilled from the full in-flight window in their order, guarded by itself, and spilled items by their
+	// placeholder IDs
+	private final Deque<SpilledItem> spilledItems = new ArrayDeque<>();
+	private final Map<Maybe<String>, SpilledItem> spilledIds = new ConcurrentHashMap<>();
+
+	// asynchronous reporting loop, null if Spock callbacks are processed on test threads
+	private final ReportingEventLoop<ReportingEvent> eventLoop;
+
+	// item contexts of the test thread, innermost first, see ReportingEvent#getItemContext()
+	private final ThreadLocal<Deque<ItemContext>> threadItems = ThreadLocal.withInitial(ArrayDeque::new);
+
+	// nested iterations and fixtures, which are reported only when their result is known,
+	// and aggregated results of nested iterations by feature
+	private final Map<Maybe<String>, DeferredItem> deferredItems = new ConcurrentHashMap<>();
+	private final Map<FeatureInfo, IterationStatistics> iterationStatistics = new ConcurrentHashMap<>();
+
+	// deferred items which were started because of their descendants, by their placeholder IDs
+	private final Map<Maybe<String>, DeferredItem> materializedItems = new ConcurrentHashMap<>();
+
+	// aggregated test results by specification, used in summary profile
+	private final Map<SpecInfo, IterationStatistics> specStatistics = new ConcurrentHashMap<>();
+
+	// skipped features waiting to be reported together at their specification finish
+	private final Map<SpecInfo, List<FeatureInfo>> skippedFeatures = new ConcurrentHashMap<>();
+
+	// log buffers of running items, keyed by Spock's specification, feature or iteration
+	private final Map<Object, ItemLogBuffer> logBuffers = new ConcurrentHashMap<>();
+
+	// streaming uploader of big file attachments, null if the client is not known
+	private final AttachmentUploader uploader;
+
+	// holds logs, which reach items through the client, in buffered logs modes, null if logs are sent directly
+	private final ClientLogBuffer clientLogs;
+
+	// specification instances of running iterations, captured for failure attachment suppliers
+	private final Map<IterationInfo, Object> runningInstances = new ConcurrentHashMap<>();
+	// items for which failure attachments were already captured
+	private final Set<Object> capturedFailures = ConcurrentHashMap.newKeySet();
+
+	// launch start request preparation on a background thread, null if the launch is started or not prepared
+	private volatile CompletableFuture<StartLaunchRQ> launchStartup;
+	// thread which called startLaunchInBackground(), the only thread which creates and starts the prepared launch
+	private volatile Thread launchStartupThread;
+	private final CompletableFuture<Void> launchStarted = new CompletableFuture<>();
+	private final Object launchStartupLock = new Object();
+	private volatile StartLaunchRQ preparedStartLaunchRq;
+	private final RequestTemplates requestTemplates;
+	// launch rollover state, see SpockParameters#getLaunchRolloverItems() and SpockParameters#getLaunchRolloverTime()
+	static final String LAUNCH_PART_ATTRIBUTE = "launchPart";
+	static final String PREVIOUS_LAUNCH_ATTRIBUTE = "previousLaunch";
+	private final AtomicLong launchItems = new AtomicLong();
+	private volatile Instant launchStartTime;
+	private volatile int launchPart = 1;
+	private volatile String previousLaunchUuid;
+	// the previous launch is finished, the continuation launch is started by the next specification
+	private volatile boolean rolloverPending;
+	// specifications are registered under the read lock, the rollover takes the write lock
+	private final ReadWriteLock rolloverLock = new ReentrantReadWriteLock();
+	private final List<CompletableFuture<Void>> rolledOverLaunches = new CopyOnWriteArrayList<>();
+	// launch shared with other test JVMs, null if the launch is not shared
+	private final LaunchRendezvous rendezvous;
+
+	// resolved launch UUID and the launch ID it was resolved from
+	private volatile Pair<Maybe<String>, String> launchUuid;
+
+	// currently filled group items of unrolled features
+	private final Map<FeatureInfo, IterationGroup> iterationGroups = new ConcurrentHashMap<>();
+
+	// passed per-iteration fixture invocations folded into one item per feature and fixture method
+	private final Map<FeatureInfo, Map<MethodInfo, FixtureAggregate>> fixtureAggregates = new ConcurrentHashMap<>();
+
+	/**
+	 * Intermediate item which groups a range of unrolled feature iterations
+	 */
+	private static final class IterationGroup {
+		private Maybe<String> id;
+		private long first = 1;
+		private long started;
+		private long finished;
+		private ItemStatus status;
+	}
+
+	/**
+	 * Passed invocations of a fixture method within a feature
+	 */
+	private static final class FixtureAggregate {
+		private final Maybe<String> parentId;
+		private final StartTestItemRQ rq;
+		private long count;
+		private long totalDuration;
+		private long minDuration = Long.MAX_VALUE;
+		private long maxDuration;
+		private Instant endTime;
+
+		private FixtureAggregate(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+			this.parentId = parentId;
+			this.rq = rq;
+		}
+
+		private void add(@Nonnull Duration duration, @Nonnull Instant end) {
+			long millis = Math.max(0, duration.toMillis());
+			count++;
+			totalDuration += millis;
+			minDuration = Math.min(minDuration, millis);
+			maxDuration = Math.max(maxDuration, millis);
+			endTime = end;
+		}
+	}
+
+	/**
+	 * Start request of an item, which was registered, but not sent to ReportPortal yet
+	 */
+	private static final class DeferredItem {
+		private final MaybeSubject<String> id;
+		private final Maybe<String> parentId;
+		private final StartTestItemRQ rq;
+		private final Instant startTime;
+		private Maybe<String> startedId;
+		// true if logs of the item are held till its result is known
+		private boolean holdLogs;
+		// item context of the test thread, which runs the item, its nested steps wait for the item start
+		private volatile MaybeSubject<String> context;
+
+		private DeferredItem(@Nonnull MaybeSubject<String> id, @Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq,
+				@Nonnull Instant startTime) {
+			this.id = id;
+			this.parentId = parentId;
+			this.rq = rq;
+			this.startTime = startTime;
+		}
+	}
+
+	/**
+	 * Item of a test thread: its logs and nested steps go to the context ID, which is bound to the item ID when the item
+	 * start is handled. The context is registered as a parent in the step reporter of the launch it was created for.
+	 */
+	private static final class ItemContext {
+		private final StepReporter stepReporter;
+		private final MaybeSubject<String> id = MaybeSubject.create();
+
+		private ItemContext(@Nonnull StepReporter stepReporter) {
+			this.stepReporter = stepReporter;
+		}
+	}
+
+	/**
+	 * Item start which didn't fit into the full in-flight window, it's sent to the current launch when the window has room
+	 */
+	private static final class SpilledItem {
+		private final MaybeSubject<String> id = MaybeSubject.create();
+		private final Maybe<String> parentId;
+		private final StartTestItemRQ rq;
+		private volatile Maybe<String> startedId;
+
+		private SpilledItem(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+			this.parentId = parentId;
+			this.rq = rq;
+		}
+	}
 
 	@Nonnull
 	protected StartLaunchRQ buildStartLaunchRq(ListenerParameters parameters) {
@@ -111,28 +319,68 @@ public class ReportPortalSpockListener extends AbstractRunListener {
 		Set<ItemAttributesRQ> attributes = new HashSet<>();
 		attributes.addAll(parameters.getAttributes());
 		attributes.addAll(SystemAttributesFetcher.collectSystemAttributes(parameters.getSkippedAnIssue()));
+		if (launchPart > 1) {
+			attributes.add(new ItemAttributesRQ(LAUNCH_PART_ATTRIBUTE, String.valueOf(launchPart)));
+			ofNullable(previousLaunchUuid).ifPresent(uuid -> attributes.add(new ItemAttributesRQ(PREVIOUS_LAUNCH_ATTRIBUTE, uuid)));
+		}
 		startLaunchRQ.setAttributes(attributes);
 		startLaunchRQ.setMode(parameters.getLaunchRunningMode());
 
 		return startLaunchRQ;
 	}
 
-	public ReportPortalSpockListener(final ReportPortal reportPortal) {
+	public ReportPortalSpockListener(final ReportPortal reportPortal, @Nonnull SpockParameters spockParameters) {
 		launchContext = new LaunchContextImpl();
 		launchParameters = reportPortal.getParameters();
+		this.rendezvous = spockParameters.isLaunchShared() ?
+				new LaunchRendezvous(spockParameters.getWorkDir(), spockParameters.getLaunchSharedLinger()) :
+				null;
+		SpockParameters.LogsMode logsMode = spockParameters.getLogsMode();
+		this.clientLogs = logsMode == SpockParameters.LogsMode.DIRECT ?
+				null :
+				ofNullable(reportPortal.getClient()).map(client -> new ClientLogBuffer(
+						client,
+						spockParameters.getLogsBufferSize(),
+						spockParameters.getLogsFlushTime(),
+						logsMode == SpockParameters.LogsMode.ITEM
+				)).orElse(null);
+		ReportPortal reporting = clientLogs == null ? reportPortal : clientLogs.wrap(reportPortal);
 		this.launch = new MemoizingSupplier<>(() -> {
-			StartLaunchRQ rq = buildStartLaunchRq(launchParameters);
-			return reportPortal.newLaunch(rq);
+			StartLaunchRQ rq = ofNullable(preparedStartLaunchRq).orElseGet(() -> buildStartLaunchRq(launchParameters));
+			return rendezvous == null ? reporting.newLaunch(rq) : rendezvous.join(reporting, rq);
 		});
+		this.spockParameters = spockParameters;
+		this.healthMonitor = createHealthMonitor(spockParameters);
+		this.inFlightWindow = new InFlightWindow(spockParameters.getInFlightMax(), spockParameters.getInFlightPolicy());
+		this.eventLoop = spockParameters.isAsync() ? new ReportingEventLoop<>(spockParameters.getAsyncBufferSize(), this::handle) : null;
+		this.uploader = ofNullable(reportPortal.getClient()).map(AttachmentUploader::new).orElse(null);
+		this.requestTemplates = new RequestTemplates(spockParameters.getTemplatesThreads());
+	}
+
+	public ReportPortalSpockListener(final ReportPortal reportPortal) {
+		this(reportPortal, new SpockParameters(PropertiesLoader.load()));
 	}
 
 	public ReportPortalSpockListener() {
 		this(ReportPortal.builder().build());
 	}
 
-	public ReportPortalSpockListener(@Nonnull Supplier<Launch> launch, AbstractLaunchContext launchContext) {
+	public ReportPortalSpockListener(@Nonnull Supplier<Launch> launch, AbstractLaunchContext launchContext,
+			@Nonnull SpockParameters spockParameters) {
 		this.launchContext = launchContext;
 		this.launch = new MemoizingSupplier<>(launch);
+		this.spockParameters = spockParameters;
+		this.rendezvous = null;
+		this.healthMonitor = createHealthMonitor(spockParameters);
+		this.inFlightWindow = new InFlightWindow(spockParameters.getInFlightMax(), spockParameters.getInFlightPolicy());
+		this.eventLoop = spockParameters.isAsync() ? new ReportingEventLoop<>(spockParameters.getAsyncBufferSize(), this::handle) : null;
+		this.uploader = null;
+		this.clientLogs = null;
+		this.requestTemplates = new RequestTemplates(spockParameters.getTemplatesThreads());
+	}
+
+	public ReportPortalSpockListener(@Nonnull Supplier<Launch> launch, AbstractLaunchContext launchContext) {
+		this(launch, launchContext, new SpockParameters(PropertiesLoader.load()));
 	}
 
 	public ReportPortalSpockListener(@Nonnull Supplier<Launch> launch) {
@@ -143,209 +391,1058 @@ public class ReportPortalSpockListener extends AbstractRunListener {
 		LOGGER.error(message, rpException);
 	}
 
-	public Maybe<String> startLaunch() {
-		if (launchContext.tryStartLaunch()) {
-			try {
-				Maybe<String> launchId = this.launch.get().start();
-				launchContext.setLaunchId(launchId);
-				return launchId;
-			} catch (ReportPortalException ex) {
-				handleRpException(
-						ex,
-						"Unable start the launch: '" + ofNullable(launchParameters).map(ListenerParameters::getLaunchName)
-								.orElse("Unknown Launch") + "'"
-				);
-			}
+	@Nullable
+	private ReportingHealthMonitor createHealthMonitor(@Nonnull SpockParameters parameters) {
+		if (!parameters.isFailOpen()) {
+			return null;
 		}
-		return launchContext.getLaunchId();
+		return new ReportingHealthMonitor(parameters.getHealthMaxErrors(), parameters.getHealthMaxLatency(), this::switchToJournal);
 	}
 
-	protected void setAttributes(@Nonnull StartTestItemRQ rq, @Nonnull AnnotatedElement methodOrClass) {
-		Attributes attributes = methodOrClass.getAnnotation(Attributes.class);
-		if (attributes != null) {
-			Set<ItemAttributesRQ> itemAttributes = AttributeParser.retrieveAttributes(attributes);
-			rq.setAttributes(itemAttributes);
+	/**
+	 * @return true if the listener writes reporting requests to the local journal instead of ReportPortal server
+	 */
+	public boolean isJournaling() {
+		return failedOpen;
+	}
+
+	/**
+	 * Handle a reporting event. In asynchronous mode the event is published to the reporting loop and handled on the
+	 * reporter thread in the order of publishing, otherwise it's handled in place.
+	 *
+	 * @param event reporting event
+	 */
+	void dispatch(@Nonnull ReportingEvent event) {
+		if (eventLoop == null) {
+			handle(event);
+		} else {
+			eventLoop.publish(event);
 		}
 	}
 
-	@Nonnull
-	protected StartTestItemRQ buildBaseStartTestItemRq(@Nonnull String name, @Nonnull String type) {
-		StartTestItemRQ rq = new StartTestItemRQ();
-		rq.setName(name);
-		rq.setStartTime(Instant.now());
-		rq.setType(type);
-		rq.setLaunchUuid(launchContext.getLaunchId().blockingGet());
-		return rq;
+	/**
+	 * Start a new item context on the test thread, so the thread's logs and nested steps go to the item, which is being
+	 * started, even if its start is handled later on the reporter thread. In synchronous mode the item is started in place
+	 * and the step reporter already has it as a parent, so no context is needed.
+	 *
+	 * @return ID of the new context, or null in synchronous mode
+	 */
+	@Nullable
+	MaybeSubject<String> enterItem() {
+		if (eventLoop == null) {
+			return null;
+		}
+		// the launch supplier must not be called before the prepared launch is started
+		awaitLaunchStartup();
+		ItemContext context = new ItemContext(launch.get().getStepReporter());
+		context.stepReporter.setParent(context.id);
+		threadItems.get().push(context);
+		return context.id;
 	}
 
-	protected void setSpecAttributes(@Nonnull StartTestItemRQ rq, @Nonnull SpecInfo spec) {
-		setAttributes(rq, spec.getReflection());
+	/**
+	 * End the innermost item context of the test thread.
+	 */
+	void leaveItem() {
+		if (eventLoop == null) {
+			return;
+		}
+		ItemContext context = threadItems.get().poll();
+		if (context != null) {
+			context.stepReporter.removeParent(context.id);
+		}
 	}
 
-	@Nonnull
-	protected StartTestItemRQ buildSpecItemRq(@Nonnull SpecInfo spec) {
-		StartTestItemRQ rq = buildBaseStartTestItemRq(spec.getName(), ITEM_TYPES_REGISTRY.get(SPEC_EXECUTION));
-		rq.setDescription(spec.getNarrative());
-		rq.setCodeRef(spec.getReflection().getCanonicalName());
-		setSpecAttributes(rq, spec);
-		return rq;
+	/**
+	 * @return ID of the innermost item context of the test thread, or null if there is none
+	 */
+	@Nullable
+	Maybe<String> getThreadContext() {
+		return ofNullable(threadItems.get().peek()).map(c -> (Maybe<String>) c.id).orElse(null);
 	}
 
-	@Nonnull
-	protected Maybe<String> startSpec(@Nonnull StartTestItemRQ rq) {
-		return launch.get().startTestItem(rq);
+	/**
+	 * Handle a reporting event. The event's thread context is the current parent item while the event is handled, so logs
+	 * of the reporting code itself go to the item of the thread, which published the event.
+	 *
+	 * @param event reporting event
+	 */
+	protected void handle(@Nonnull ReportingEvent event) {
+		Maybe<String> threadContext = event.getThreadContext();
+		StepReporter stepReporter = eventLoop != null && threadContext != null ? launch.get().getStepReporter() : null;
+		ofNullable(stepReporter).ifPresent(r -> r.setParent(threadContext));
+		try {
+			handleEvent(event);
+		} catch (RuntimeException e) {
+			// logs of the thread must not wait for an item which will never be started
+			ofNullable(event.getItemContext()).ifPresent(MaybeSubject::onComplete);
+			throw e;
+		} finally {
+			ofNullable(stepReporter).ifPresent(r -> r.removeParent(threadContext));
+		}
 	}
 
-	public void registerSpec(@Nonnull SpecInfo spec) {
-		if (launchContext.isSpecRegistered(spec)) {
+	private void handleEvent(@Nonnull ReportingEvent event) {
+		switch (event.getType()) {
+			case SPEC_START:
+				registerSpec(event.getSpec());
+				bindItemContext(event, findItemId(event.getSpec()));
+				break;
+			case FEATURE_START:
+				registerFeature(event.getFeature());
+				bindItemContext(event, findItemId(event.getFeature()));
+				break;
+			case ITERATION_START:
+				registerIteration(event.getIteration());
+				bindItemContext(event, findItemId(getReportedItem(event.getIteration())));
+				break;
+			case FIXTURE_START:
+				registerFixture(event.getSpec(), event.getFeature(), event.getIteration(), event.getMethod());
+				bindItemContext(
+						event,
+						ofNullable(findFixtureOwner(event.getSpec(), event.getFeature(), event.getIteration(), event.getMethod())).map(o -> o.findUnpublishedFixtureFootprint(
+								event.getMethod())).map(ReportableItemFootprint::getId).orElse(null)
+				);
+				break;
+			case FIXTURE_ERROR:
+				reportFixtureError(event.getSpec(), event.getFeature(), event.getIteration(), event.getMethod(), event.getException());
+				break;
+			case FIXTURE_FINISH:
+				publishFixtureResult(event.getSpec(), event.getFeature(), event.getIteration(), event.getMethod());
+				break;
+			case ERROR:
+				reportError(event.getError());
+				break;
+			case ITERATION_FINISH:
+				publishIterationResult(event.getIteration());
+				break;
+			case FEATURE_FINISH:
+				publishFeatureResult(event.getFeature());
+				break;
+			case FEATURE_SKIPPED:
+				publishSkippedFeature(event.getFeature());
+				break;
+			case SPEC_FINISH:
+				publishSpecResult(event.getSpec());
+				break;
+			case SPEC_SKIPPED:
+				trackSkippedSpec(event.getSpec());
+				publishSpecResult(event.getSpec());
+				break;
+			case LOGS:
+				ofNullable(findItemId(event.getItem())).ifPresent(itemId -> sendBufferedLogs(itemId, event.getLogs(), 0));
+				break;
+			case ATTACHMENTS:
+				ofNullable(findItemId(event.getItem())).ifPresent(itemId -> event.getAttachments()
+						.forEach(attachment -> sendAttachment(itemId, attachment, LogLevel.INFO.name())));
+				break;
+			case FAILURE_ATTACHMENTS:
+				sendFailureAttachments(event.getSpec(), event.getFeature(), event.getIteration(), event.getAttachments());
+				break;
+			default:
+				LOGGER.warn("Unknown reporting event: {}", event.getType());
+		}
+	}
+
+	/**
+	 * Bind the item context of a start event to the started item. Logs of an item, which is not reported, go to the
+	 * enclosing item, logs of a deferred item wait until it's reported, or are discarded with it.
+	 *
+	 * @param event  item start event
+	 * @param itemId started item ID
+	 */
+	private void bindItemContext(@Nonnull ReportingEvent event, @Nullable Maybe<String> itemId) {
+		MaybeSubject<String> context = event.getItemContext();
+		if (context == null) {
 			return;
 		}
-		Maybe<String> testItemId = startSpec(buildSpecItemRq(spec));
-		launchContext.addRunningSpec(testItemId, spec);
+		if (itemId != null && isJournaled(itemId)) {
+			// journaled items don't receive logs from the client
+			context.onComplete();
+			return;
+		}
+		Maybe<String> target = itemId == null || droppedItems.contains(itemId) ? event.getThreadContext() : itemId;
+		ofNullable(target).map(deferredItems::get).ifPresent(deferred -> deferred.context = context);
+		if (target == null) {
+			context.onComplete();
+		} else {
+			target.subscribe(context);
+		}
 	}
 
+	/**
+	 * @return current time, or the time of the Spock event being processed in asynchronous mode
+	 */
 	@Nonnull
-	protected StartTestItemRQ buildFixtureItemRq(@Nonnull FeatureInfo feature, @Nonnull MethodInfo fixture, boolean inherited) {
-		MethodKind kind = fixture.getKind();
-		String fixtureDisplayName = getFixtureDisplayName(fixture, inherited);
-		StartTestItemRQ rq = buildBaseStartTestItemRq(fixtureDisplayName, ITEM_TYPES_REGISTRY.get(kind));
-		if (kind.isFeatureScopedFixtureMethod() && !feature.isReportIterations() && feature.isParameterized()) {
-			rq.setHasStats(false);
-		}
-		return rq;
+	protected Instant now() {
+		return eventLoop == null ? Instant.now() : eventLoop.now();
 	}
 
+	/**
+	 * @return gauges of item requests, which were sent to ReportPortal but were not answered yet
+	 */
 	@Nonnull
-	protected Maybe<String> startFixture(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
-		return launch.get().startTestItem(parentId, rq);
+	public InFlightWindow getInFlightWindow() {
+		return inFlightWindow;
 	}
 
-	public void registerFixture(SpecInfo spec, @Nonnull FeatureInfo feature, IterationInfo iteration, @Nonnull MethodInfo fixture) {
-		NodeFootprint<SpecInfo> specFootprint = launchContext.findSpecFootprint(spec);
-		StartTestItemRQ rq = buildFixtureItemRq(feature, fixture, !fixture.getParent().equals(specFootprint.getItem()));
-		Maybe<String> testItemId = startFixture(
-				rq.isHasStats() ?
-						specFootprint.getId() :
-						launchContext.findFeatureFootprint(feature).getId(), rq
-		);
-		@SuppressWarnings("rawtypes")
-		NodeFootprint<? extends NodeInfo> fixtureOwnerFootprint = findFixtureOwner(spec, feature, iteration, fixture);
-		fixtureOwnerFootprint.addFixtureFootprint(new FixtureFootprint(fixture, testItemId));
+	/**
+	 * Get the local journal, create it if it doesn't exist yet.
+	 *
+	 * @return the journal or null if it can't be created
+	 */
+	@Nullable
+	private synchronized LocalJournal openJournal() {
+		if (journal != null) {
+			return journal;
+		}
+		Path file = spockParameters.getWorkDir().resolve("journal-" + ProcessHandle.current().pid() + ".jsonl");
+		LocalJournal localJournal;
+		try {
+			localJournal = new LocalJournal(file);
+		} catch (IOException e) {
+			LOGGER.error("Unable to create reporting journal: " + file, e);
+			return null;
+		}
+		// continue the server launch if it was started, so items started on the server before the switch are finished
+		String serverLaunchUuid = resolveWithin(launchContext.getLaunchId(), getServerWaitTime());
+		if (serverLaunchUuid != null) {
+			localJournal.resumeLaunch(serverLaunchUuid);
+			journalLaunchReference = serverLaunchUuid;
+		} else {
+			journalLaunchReference = localJournal.startLaunch(buildStartLaunchRq(ofNullable(launchParameters).orElseGet(() -> launch.get()
+					.getParameters())));
+		}
+		journal = localJournal;
+		return localJournal;
+	}
+
+	/**
+	 * Stop sending requests to ReportPortal server and write them to the local journal instead.
+	 *
+	 * @param reason the reason of the switch
+	 */
+	private synchronized void switchToJournal(@Nonnull String reason) {
+		if (failedOpen || openJournal() == null) {
+			return;
+		}
+		LOGGER.warn("ReportPortal server is unhealthy ({}), switching to the local journal: {}", reason, journal.getFile());
+		launchContext.setLaunchId(Maybe.just(journalLaunchReference));
+		failedOpen = true;
 	}
 
+	/**
+	 * Get the journal reference of an item. Items started on the server are bound to their UUIDs in the journal, if the
+	 * UUID is known within the server wait time.
+	 */
 	@Nonnull
-	protected StartTestItemRQ buildNestedIterationItemRq(@Nonnull IterationInfo iteration) {
-		List<Object> params = Arrays.asList(iteration.getDataValues());
-		List<String> names = iteration.getFeature().getParameterNames();
-		String name = IntStream.range(0, params.size()).mapToObj(i -> {
-			Object p = params.get(i);
-			String n;
-			try {
-				n = names.get(i);
-				n = ofNullable(n).orElse("param" + i + 1);
-			} catch (IndexOutOfBoundsException e) {
-				n = "param" + i + 1;
-			}
-			return Pair.of(n, p);
-		}).map(p -> p.getKey() + ": " + p.getValue()).collect(Collectors.joining("; ", "Parameters: ", ""));
-		StartTestItemRQ rq = buildBaseStartTestItemRq(name, ITEM_TYPES_REGISTRY.get(FEATURE));
-		rq.setHasStats(false);
+	private String getJournalReference(@Nonnull LocalJournal localJournal, @Nonnull Maybe<String> itemId) {
+		return journalReferences.computeIfAbsent(
+				itemId, id -> {
+					String itemUuid = journaledItems.contains(id) ? null : resolveWithin(id, getServerWaitTime());
+					if (itemUuid == null) {
+						LOGGER.debug("Item UUID is unknown, its journaled children and logs are attached to the launch");
+						return localJournal.newReference();
+					}
+					return localJournal.serverItem(itemUuid);
+				}
+		);
+	}
 
-		return rq;
+	/**
+	 * @return maximum time in milliseconds to wait for an ID from the server when it's needed in the journal
+	 */
+	private long getServerWaitTime() {
+		return ofNullable(healthMonitor).map(ReportingHealthMonitor::getMaxLatency).filter(l -> l > 0).orElse(100L);
 	}
 
 	@Nonnull
-	protected StartTestItemRQ buildIterationItemRq(@Nonnull IterationInfo iteration) {
-		String displayName;
-		try {
-			displayName = (String) DISPLAY_NAME_METHOD.invoke(iteration);
-		} catch (InvocationTargetException | IllegalAccessException e) {
-			throw new IllegalStateException(e);
-		}
-		StartTestItemRQ rq = buildBaseStartTestItemRq(displayName, ITEM_TYPES_REGISTRY.get(FEATURE));
-		rq.setDescription(buildIterationDescription(iteration));
-		MethodInfo featureMethodInfo = iteration.getFeature().getFeatureMethod();
-		String codeRef = extractCodeRef(featureMethodInfo);
-		rq.setCodeRef(codeRef);
-		Method method = featureMethodInfo.getReflection();
-		TestCaseId testCaseId = method.getAnnotation(TestCaseId.class);
-		List<Object> params = ofNullable(iteration.getDataValues()).map(Arrays::asList).orElse(null);
-		rq.setTestCaseId(ofNullable(TestCaseIdUtils.getTestCaseId(testCaseId, method, codeRef, params)).map(TestCaseIdEntry::getId)
-				.orElse(null));
-		List<Object> paramList = ofNullable(params).orElse(Collections.emptyList());
-		List<String> names = iteration.getFeature().getParameterNames();
-		rq.setParameters(ParameterUtils.getParameters(
-				codeRef,
-				IntStream.range(0, paramList.size()).mapToObj(i -> Pair.of(names.get(i), paramList.get(i))).collect(Collectors.toList())
-		));
-		setFeatureAttributes(rq, iteration.getFeature());
-		return rq;
+	SpockParameters getSpockParameters() {
+		return spockParameters;
 	}
 
 	@Nonnull
-	protected Maybe<String> startIteration(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
-		return launch.get().startTestItem(parentId, rq);
+	Supplier<Launch> getLaunch() {
+		return launch;
 	}
 
-	protected void reportIterationStart(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq, @Nonnull IterationInfo iteration) {
-		Maybe<String> testItemId = startIteration(parentId, rq);
-		launchContext.addRunningIteration(testItemId, iteration);
-		errorDescriptionMap.put(launchContext.findIterationFootprint(iteration).getId(), Pair.of(rq.getDescription(), StringUtils.EMPTY));
+	public Maybe<String> startLaunch() {
+		if (launchContext.tryStartLaunch()) {
+			try {
+				Maybe<String> launchId = this.launch.get().start();
+				launchContext.setLaunchId(launchId);
+				launchItems.set(0);
+				launchStartTime = Instant.now();
+				ofNullable(healthMonitor).ifPresent(m -> m.trackCritical(launchId));
+				return launchId;
+			} catch (ReportPortalException ex) {
+				handleRpException(
+						ex,
+						"Unable start the launch: '" + ofNullable(launchParameters).map(ListenerParameters::getLaunchName)
+								.orElse("Unknown Launch") + "'"
+				);
+				ofNullable(healthMonitor).ifPresent(m -> m.markUnhealthy(ex.getMessage()));
+			}
+		}
+		return launchContext.getLaunchId();
 	}
 
-	public void registerIteration(@Nonnull IterationInfo iteration) {
-		if (iteration.getFeature().isReportIterations()) {
-			reportIterationStart(
-					launchContext.findSpecFootprint(iteration.getFeature().getSpec()).getId(),
-					buildIterationItemRq(iteration),
-					iteration
-			);
-		} else if (iteration.getFeature().isParameterized()) {
-			reportIterationStart(
-					launchContext.findFeatureFootprint(iteration.getFeature()).getId(),
-					buildNestedIterationItemRq(iteration),
-					iteration
-			);
-		}
+	/**
+	 * Prepare the launch start on a background thread: build the start request with system attributes and warm up
+	 * reporting code paths, so this work overlaps with Spock extension loading and specification scanning. The launch is
+	 * created with the prepared request and started on the calling thread by its first reporting call, which is the visit
+	 * of the first specification, see {@link #prepareSpec(SpecInfo)}. Reporting calls of other threads wait for that, so
+	 * the launch never belongs to a background, a test or the reporter thread.
+	 */
+	public void startLaunchInBackground() {
+		CompletableFuture<StartLaunchRQ> startup = new CompletableFuture<>();
+		launchStartupThread = Thread.currentThread();
+		launchStartup = startup;
+		Thread thread = new Thread(
+				() -> {
+					try {
+						startup.complete(ofNullable(launchParameters).map(this::buildStartLaunchRq).orElse(null));
+					} catch (RuntimeException e) {
+						startup.completeExceptionally(e);
+					}
+					warmUp();
+				}, "rp-spock-startup"
+		);
+		thread.setDaemon(true);
+		thread.start();
 	}
 
 	/**
-	 * Build finish test item request object
-	 *
-	 * @param itemId item ID reference
-	 * @param status item result status
-	 * @return finish request
+	 * Load and initialize classes and serializers of reporting requests ahead of the first use.
 	 */
-	@Nonnull
-	@SuppressWarnings("unused")
-	protected FinishTestItemRQ buildFinishTestItemRq(@Nonnull Maybe<String> itemId, @Nullable ItemStatus status) {
-		FinishTestItemRQ rq = new FinishTestItemRQ();
-		ofNullable(status).ifPresent(s -> rq.setStatus(s.name()));
-		rq.setEndTime(Instant.now());
-		if (Objects.equals(status, ItemStatus.FAILED) && errorDescriptionMap.containsKey(itemId)) {
-			String formattedException = String.format("Error:\n%s", errorDescriptionMap.get(itemId).getRight());
-			if (StringUtils.isNotBlank(errorDescriptionMap.get(itemId).getLeft())) {
-				rq.setDescription(MarkdownUtils.asTwoParts(errorDescriptionMap.get(itemId).getLeft(), formattedException));
-			} else {
-				rq.setDescription(String.format(formattedException));
+	protected void warmUp() {
+		try {
+			// not buildBaseStartTestItemRq(), which waits for the launch start
+			StartTestItemRQ rq = new StartTestItemRQ();
+			rq.setName("warm-up");
+			rq.setStartTime(now());
+			rq.setType(ItemType.STEP.name());
+			MAPPER.writeValueAsBytes(rq);
+			MAPPER.writeValueAsBytes(new FinishTestItemRQ());
+			MAPPER.writeValueAsBytes(new SaveLogRQ());
+		} catch (Exception e) {
+			LOGGER.debug("Unable to warm up reporting requests", e);
+		}
+	}
+
+	private void awaitLaunchStartup() {
+		if (launchStartup == null) {
+			return;
+		}
+		if (Thread.currentThread() != launchStartupThread) {
+			try {
+				launchStarted.get(LAUNCH_STARTUP_WAIT, TimeUnit.MILLISECONDS);
+				return;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException | TimeoutException e) {
+				LOGGER.warn(
+						"The launch was not started by the thread which prepared it, starting it on {}",
+						Thread.currentThread().getName()
+				);
 			}
 		}
-		errorDescriptionMap.remove(itemId);
-		return rq;
+		synchronized (launchStartupLock) {
+			CompletableFuture<StartLaunchRQ> startup = launchStartup;
+			if (startup == null) {
+				return;
+			}
+			try {
+				preparedStartLaunchRq = startup.join();
+			} catch (RuntimeException e) {
+				LOGGER.warn("Unable to prepare the launch start request", e);
+			}
+			//noinspection ReactiveStreamsUnusedPublisher
+			startLaunch();
+			launchStartup = null;
+			launchStarted.complete(null);
+		}
 	}
 
-	protected void reportIterationFinish(@Nonnull ReportableItemFootprint<IterationInfo> footprint) {
-		ItemStatus status = footprint.getStatus().orElseGet(() -> {
-			footprint.setStatus(ItemStatus.PASSED);
-			return PASSED;
-		});
-		FinishTestItemRQ rq = buildFinishTestItemRq(footprint.getId(), status);
-		if (SKIPPED == status) {
-			rq.setIssue(Launch.NOT_ISSUE);
+	/**
+	 * Get launch UUID, waiting for the launch start if necessary. In fail-open mode the wait is limited with the health
+	 * latency threshold, the agent switches to the local journal if the launch is not started in time.
+	 *
+	 * @return launch UUID
+	 */
+	private String getLaunchUuid() {
+		awaitLaunchStartup();
+		Maybe<String> launchId = launchContext.getLaunchId();
+		Pair<Maybe<String>, String> resolved = launchUuid;
+		if (resolved != null && resolved.getKey() == launchId) {
+			return resolved.getValue();
 		}
-		//noinspection ReactiveStreamsUnusedPublisher
-		launch.get().finishTestItem(footprint.getId(), rq);
-		footprint.markAsPublished();
+		String uuid = resolveLaunchUuid(launchId);
+		launchUuid = Pair.of(launchId, uuid);
+		return uuid;
+	}
+
+	private String resolveLaunchUuid(@Nonnull Maybe<String> launchId) {
+		if (healthMonitor == null || isJournaling()) {
+			return launchId.blockingGet();
+		}
+		try {
+			return launchId.timeout(healthMonitor.getMaxLatency(), TimeUnit.MILLISECONDS).blockingGet();
+		} catch (RuntimeException e) {
+			healthMonitor.markUnhealthy("Unable to get launch UUID: " + e.getMessage());
+			// the journal launch reference if the agent switched to the journal, the server one is awaited within the limit
+			return resolveWithin(launchContext.getLaunchId(), healthMonitor.getMaxLatency());
+		}
+	}
+
+	private boolean isJournaled(@Nullable Maybe<String> itemId) {
+		return failedOpen || (itemId != null && journaledItems.contains(itemId));
+	}
+
+	@Nonnull
+	private Maybe<String> journalStart(@Nonnull LocalJournal localJournal, @Nullable Maybe<String> parentId,
+			@Nonnull StartTestItemRQ rq) {
+		String parentReference = ofNullable(parentId).map(p -> getJournalReference(localJournal, p)).orElse(null);
+		String reference = localJournal.startItem(parentReference, rq);
+		Maybe<String> itemId = Maybe.just(reference);
+		journaledItems.add(itemId);
+		journalReferences.put(itemId, reference);
+		return itemId;
+	}
+
+	@Nonnull
+	private Maybe<String> dropItem() {
+		Maybe<String> itemId = Maybe.just(DROPPED_ITEM_ID);
+		droppedItems.add(itemId);
+		return itemId;
+	}
+
+	/**
+	 * Take a slot in the in-flight window for a new item, applying the window policy if it's full.
+	 *
+	 * @param rq item start request
+	 * @return null if the item should be sent to ReportPortal, or the item ID if the policy handled it
+	 */
+	@Nullable
+	private Maybe<String> applyInFlightPolicy(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		if (inFlightWindow.tryAcquire()) {
+			return null;
+		}
+		switch (inFlightWindow.getPolicy()) {
+			case SPILL:
+				Maybe<String> spilled = spillOrDegrade(parentId, rq);
+				if (spilled != null) {
+					return spilled;
+				}
+				break;
+			case DEGRADE:
+				if (isDegradable(rq)) {
+					inFlightWindow.markDropped();
+					return dropItem();
+				}
+				break;
+			default:
+		}
+		inFlightWindow.acquire();
+		return null;
+	}
+
+	private static boolean isDegradable(@Nonnull StartTestItemRQ rq) {
+		return !rq.isHasStats() || FIXTURE_ITEM_TYPES.contains(rq.getType());
+	}
+
+	/**
+	 * Queue an item start, if the spill queue has room. Otherwise, an item without own statistics is skipped, and for
+	 * others the thread waits until the queued starts are sent, so the memory used by the queue stays bounded.
+	 *
+	 * @param parentId parent item ID
+	 * @param rq       item start request
+	 * @return placeholder ID of a queued item, ID of a skipped item, or null if the item should be sent to ReportPortal
+	 */
+	@Nullable
+	private Maybe<String> spillOrDegrade(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		boolean full;
+		synchronized (spilledItems) {
+			full = spilledItems.size() >= spockParameters.getInFlightSpillMax();
+		}
+		if (!full) {
+			inFlightWindow.markSpilled();
+			return spill(parentId, rq);
+		}
+		if (isDegradable(rq)) {
+			inFlightWindow.markDropped();
+			return dropItem();
+		}
+		resubmitAllSpilled();
+		return null;
+	}
+
+	/**
+	 * Get the item ID known to the reporting pipeline. A deferred item referenced by its descendant is started first, with
+	 * its captured start time.
+	 *
+	 * @param itemId item ID or placeholder ID of a deferred item
+	 * @return item ID
+	 */
+	@Nonnull
+	private Maybe<String> resolveItemId(@Nonnull Maybe<String> itemId) {
+		DeferredItem deferred = deferredItems.remove(itemId);
+		if (deferred != null) {
+			holdItemLogs(deferred);
+			Maybe<String> startedId = startItem(deferred.parentId, deferred.rq);
+			deferred.startedId = startedId;
+			materializedItems.put(itemId, deferred);
+			startedId.subscribe(deferred.id);
+			return startedId;
+		}
+		SpilledItem spilled = spilledIds.get(itemId);
+		if (spilled != null) {
+			return ofNullable(spilled.startedId).orElse(itemId);
+		}
+		return ofNullable(materializedItems.get(itemId)).map(d -> d.startedId).orElse(itemId);
+	}
+
+	/**
+	 * Queue an item start in memory, which didn't fit into the full in-flight window. The item is known by its placeholder
+	 * ID until it's started in the current launch, under the same parent, see {@link #resubmitSpilled(SpilledItem)}.
+	 *
+	 * @param parentId parent item ID
+	 * @param rq       item start request
+	 * @return placeholder ID of the item
+	 */
+	@Nonnull
+	private Maybe<String> spill(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		SpilledItem spilled = new SpilledItem(parentId, rq);
+		spilledIds.put(spilled.id, spilled);
+		synchronized (spilledItems) {
+			spilledItems.addLast(spilled);
+		}
+		// logs and nested steps of the thread go to the item as soon as it's started
+		launch.get().getStepReporter().setParent(spilled.id);
+		return spilled.id;
+	}
+
+	/**
+	 * Send spilled item starts to the launch in their order, while the in-flight window has room.
+	 *
+	 * @param until spilled item which must be started, waiting for free window slots if necessary, or null to send only
+	 *              what fits into the window now
+	 */
+	private void resubmitSpilled(@Nullable SpilledItem until) {
+		synchronized (spilledItems) {
+			SpilledItem next;
+			while ((next = spilledItems.peekFirst()) != null) {
+				if (until != null && until.startedId == null) {
+					inFlightWindow.acquire();
+				} else if (!inFlightWindow.tryAcquire()) {
+					return;
+				}
+				spilledItems.removeFirst();
+				Maybe<String> parentId = ofNullable(next.parentId).map(this::resolveItemId).orElse(null);
+				Maybe<String> startedId = sendStart(parentId, next.rq);
+				// the item is a parent of the thread which spilled it, not of the current one
+				launch.get().getStepReporter().removeParent(startedId);
+				next.startedId = startedId;
+				startedId.subscribe(next.id);
+			}
+		}
+	}
+
+	private boolean hasSpilledItems() {
+		synchronized (spilledItems) {
+			return !spilledItems.isEmpty();
+		}
+	}
+
+	/**
+	 * Send all spilled item starts to the launch, waiting for free window slots.
+	 */
+	private void resubmitAllSpilled() {
+		SpilledItem last;
+		synchronized (spilledItems) {
+			last = spilledItems.peekLast();
+		}
+		if (last != null) {
+			resubmitSpilled(last);
+		}
+	}
+
+	@Nonnull
+	private Maybe<String> startItem(@Nullable Maybe<String> parent, @Nonnull StartTestItemRQ rq) {
+		Maybe<String> parentId = ofNullable(parent).map(this::resolveItemId).orElse(null);
+		if (parentId != null && droppedItems.contains(parentId)) {
+			return dropItem();
+		}
+		if (isJournaled(parentId)) {
+			LocalJournal localJournal = openJournal();
+			if (localJournal != null) {
+				return journalStart(localJournal, parentId, rq);
+			}
+		}
+		if (hasSpilledItems()) {
+			// keep the order of item starts, while there are spilled items new ones follow them
+			resubmitSpilled(null);
+			if (hasSpilledItems()) {
+				Maybe<String> spilled = spillOrDegrade(parentId, rq);
+				if (spilled != null) {
+					return spilled;
+				}
+			}
+		}
+		Maybe<String> handled = applyInFlightPolicy(parentId, rq);
+		if (handled != null) {
+			return handled;
+		}
+		return sendStart(parentId, rq);
+	}
+
+	@Nonnull
+	private Maybe<String> sendStart(@Nullable Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		Maybe<String> itemId = parentId == null ? launch.get().startTestItem(rq) : launch.get().startTestItem(parentId, rq);
+		launchItems.incrementAndGet();
+		inFlightWindow.track(itemId);
+		ofNullable(healthMonitor).ifPresent(m -> m.track(itemId));
+		return itemId;
+	}
+
+	private void finishItem(@Nonnull Maybe<String> id, @Nonnull FinishTestItemRQ rq) {
+		SpilledItem spilled = spilledIds.remove(id);
+		if (spilled != null) {
+			resubmitSpilled(spilled);
+			launch.get().getStepReporter().removeParent(spilled.id);
+			id = spilled.startedId;
+		}
+		DeferredItem materialized = materializedItems.remove(id);
+		Maybe<String> itemId = ofNullable(materialized).map(d -> d.startedId).orElse(id);
+		if (droppedItems.remove(itemId)) {
+			return;
+		}
+		LocalJournal localJournal = journal;
+		if (localJournal != null && isJournaled(itemId)) {
+			localJournal.finishItem(getJournalReference(localJournal, itemId), rq);
+			journalReferences.remove(itemId);
+			journaledItems.remove(itemId);
+			return;
+		}
+		// failed item finishes go through the priority lane of the window, which orders them only if the window is bounded
+		inFlightWindow.acquire(FAILED.name().equals(rq.getStatus()));
+		// nested steps of a deferred item were started in its context, the client finishes them before their parent
+		Maybe<String> finishedId = ofNullable(materialized).map(d -> (Maybe<String>) d.context).orElse(itemId);
+		Maybe<OperationCompletionRS> result = launch.get().finishTestItem(finishedId, rq);
+		inFlightWindow.track(result);
+		ofNullable(healthMonitor).ifPresent(m -> m.track(result));
+	}
+
+	/**
+	 * Set item attributes from the {@link Attributes} annotation, or from the compile-time metadata of a specification
+	 * annotated with {@link com.epam.reportportal.spock.annotations.ReportingMetadata}. The result becomes a part of a
+	 * request template, see
+	 * {@link #setSpecAttributes(StartTestItemRQ, SpecInfo)} and {@link #setFeatureAttributes(StartTestItemRQ, FeatureInfo)}.
+	 *
+	 * @param rq            request template
+	 * @param methodOrClass annotated specification class or feature method
+	 */
+	protected void setAttributes(@Nonnull StartTestItemRQ rq, @Nonnull AnnotatedElement methodOrClass) {
+		Optional<Set<ItemAttributesRQ>> resolved = SpecMetadataTable.getAttributes(methodOrClass);
+		if (resolved.isPresent()) {
+			rq.setAttributes(resolved.get());
+			return;
+		}
+		Attributes attributes = methodOrClass.getAnnotation(Attributes.class);
+		if (attributes != null) {
+			Set<ItemAttributesRQ> itemAttributes = AttributeParser.retrieveAttributes(attributes);
+			rq.setAttributes(itemAttributes);
+		}
+	}
+
+	@Nonnull
+	protected StartTestItemRQ buildBaseStartTestItemRq(@Nonnull String name, @Nonnull String type) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setStartTime(now());
+		rq.setType(type);
+		rq.setLaunchUuid(getLaunchUuid());
+		return rq;
+	}
+
+	/**
+	 * Set specification item attributes. The method is called once per specification, when its request template is built,
+	 * and the attributes are copied to the specification start request. With {@link SpockParameters#getTemplatesThreads()}
+	 * greater than zero the call happens on a templates pool thread during specification discovery, so an override must
+	 * not depend on the calling thread or on the test execution state.
+	 *
+	 * @param rq   specification request template
+	 * @param spec Spock's specification
+	 */
+	protected void setSpecAttributes(@Nonnull StartTestItemRQ rq, @Nonnull SpecInfo spec) {
+		if (SpecMetadataTable.mayHaveAttributes(spec.getReflection())) {
+			setAttributes(rq, spec.getReflection());
+		}
+	}
+
+	@Nonnull
+	private StartTestItemRQ buildSpecTemplate(@Nonnull SpecInfo spec) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(spec.getName());
+		rq.setType(ITEM_TYPES_REGISTRY.get(SPEC_EXECUTION));
+		rq.setDescription(spec.getNarrative());
+		rq.setCodeRef(SpecMetadataTable.getCodeRef(spec.getReflection()));
+		setSpecAttributes(rq, spec);
+		return rq;
+	}
+
+	@Nonnull
+	protected StartTestItemRQ buildSpecItemRq(@Nonnull SpecInfo spec) {
+		StartTestItemRQ template = requestTemplates.get(spec, () -> buildSpecTemplate(spec));
+		return RequestTemplates.apply(template, buildBaseStartTestItemRq(template.getName(), template.getType()));
+	}
+
+	/**
+	 * Precompute static parts of the specification, feature and fixture start requests on the templates pool, see
+	 * {@link SpockParameters#getTemplatesThreads()}. Called while Spock visits specifications, before they run. A launch
+	 * prepared in background is started here, on the thread which prepared it.
+	 *
+	 * @param spec Spock's specification
+	 */
+	public void prepareSpec(@Nonnull SpecInfo spec) {
+		awaitLaunchStartup();
+		requestTemplates.prepare(() -> {
+			for (SpecInfo current = spec; current != null; current = current.getSuperSpec()) {
+				SpecInfo s = current;
+				requestTemplates.get(s, () -> buildSpecTemplate(s));
+			}
+			spec.getAllFeatures().forEach(feature -> requestTemplates.get(feature, () -> buildFeatureTemplate(feature)));
+			spec.getAllFixtureMethods().forEach(fixture -> {
+				boolean inherited = !fixture.getParent().equals(spec);
+				requestTemplates.get(Pair.of(fixture, inherited), () -> buildFixtureTemplate(fixture, inherited));
+			});
+		});
+	}
+
+	private void removeSpecTemplates(@Nonnull SpecInfo spec) {
+		List<Object> keys = new ArrayList<>();
+		for (SpecInfo current = spec; current != null; current = current.getSuperSpec()) {
+			keys.add(current);
+		}
+		keys.addAll(spec.getAllFeatures());
+		spec.getAllFixtureMethods().forEach(fixture -> {
+			keys.add(Pair.of(fixture, true));
+			keys.add(Pair.of(fixture, false));
+		});
+		requestTemplates.remove(keys);
+	}
+
+	@Nonnull
+	protected Maybe<String> startSpec(@Nonnull StartTestItemRQ rq) {
+		return startItem(null, rq);
+	}
+
+	public void registerSpec(@Nonnull SpecInfo spec) {
+		awaitLaunchStartup();
+		rolloverLock.readLock().lock();
+		try {
+			if (launchContext.isSpecRegistered(spec)) {
+				return;
+			}
+			startContinuationLaunch();
+			StartTestItemRQ rq = buildSpecItemRq(spec);
+			holdItemLogs(rq, false);
+			Maybe<String> testItemId = startSpec(rq);
+			launchContext.addRunningSpec(testItemId, spec);
+		} finally {
+			rolloverLock.readLock().unlock();
+		}
+	}
+
+	@Nonnull
+	private StartTestItemRQ buildFixtureTemplate(@Nonnull MethodInfo fixture, boolean inherited) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(getFixtureDisplayName(fixture, inherited));
+		rq.setType(ITEM_TYPES_REGISTRY.get(fixture.getKind()));
+		return rq;
+	}
+
+	@Nonnull
+	protected StartTestItemRQ buildFixtureItemRq(@Nonnull FeatureInfo feature, @Nonnull MethodInfo fixture, boolean inherited) {
+		MethodKind kind = fixture.getKind();
+		StartTestItemRQ template = requestTemplates.get(Pair.of(fixture, inherited), () -> buildFixtureTemplate(fixture, inherited));
+		StartTestItemRQ rq = buildBaseStartTestItemRq(template.getName(), template.getType());
+		if (kind.isFeatureScopedFixtureMethod() && !feature.isReportIterations() && feature.isParameterized()) {
+			rq.setHasStats(false);
+		}
+		return rq;
+	}
+
+	@Nonnull
+	protected Maybe<String> startFixture(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		return startItem(parentId, rq);
+	}
+
+	public void registerFixture(SpecInfo spec, @Nonnull FeatureInfo feature, IterationInfo iteration, @Nonnull MethodInfo fixture) {
+		NodeFootprint<SpecInfo> specFootprint = launchContext.findSpecFootprint(spec);
+		StartTestItemRQ rq = buildFixtureItemRq(feature, fixture, !fixture.getParent().equals(specFootprint.getItem()));
+		Maybe<String> parentId = rq.isHasStats() ? specFootprint.getId() : launchContext.findFeatureFootprint(feature).getId();
+		Maybe<String> testItemId;
+		if (getFixtureReporting() == SpockParameters.FixtureReporting.ALWAYS && !isFixtureAggregated(fixture)) {
+			testItemId = startFixture(parentId, rq);
+		} else {
+			// the fixture is reported retroactively with the captured start time if it qualifies
+			MaybeSubject<String> deferredId = MaybeSubject.create();
+			deferredItems.put(deferredId, new DeferredItem(deferredId, parentId, rq, now()));
+			testItemId = deferredId;
+		}
+		@SuppressWarnings("rawtypes")
+		NodeFootprint<? extends NodeInfo> fixtureOwnerFootprint = findFixtureOwner(spec, feature, iteration, fixture);
+		fixtureOwnerFootprint.addFixtureFootprint(new FixtureFootprint(fixture, testItemId));
+	}
+
+	@Nonnull
+	protected StartTestItemRQ buildNestedIterationItemRq(@Nonnull IterationInfo iteration) {
+		List<Object> params = Arrays.asList(iteration.getDataValues());
+		List<String> names = iteration.getFeature().getParameterNames();
+		String name = IntStream.range(0, params.size()).mapToObj(i -> {
+			Object p = params.get(i);
+			String n;
+			try {
+				n = names.get(i);
+				n = ofNullable(n).orElse("param" + i + 1);
+			} catch (IndexOutOfBoundsException e) {
+				n = "param" + i + 1;
+			}
+			return Pair.of(n, p);
+		}).map(p -> p.getKey() + ": " + p.getValue()).collect(Collectors.joining("; ", "Parameters: ", ""));
+		StartTestItemRQ rq = buildBaseStartTestItemRq(name, ITEM_TYPES_REGISTRY.get(FEATURE));
+		rq.setHasStats(false);
+
+		return rq;
+	}
+
+	@Nonnull
+	protected StartTestItemRQ buildIterationItemRq(@Nonnull IterationInfo iteration) {
+		String displayName;
+		try {
+			displayName = (String) DISPLAY_NAME_METHOD.invoke(iteration);
+		} catch (InvocationTargetException | IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+		FeatureInfo feature = iteration.getFeature();
+		StartTestItemRQ template = requestTemplates.get(feature, () -> buildFeatureTemplate(feature));
+		StartTestItemRQ rq = RequestTemplates.apply(template, buildBaseStartTestItemRq(displayName, template.getType()));
+		rq.setDescription(buildIterationDescription(iteration, template.getDescription()));
+		MethodInfo featureMethodInfo = feature.getFeatureMethod();
+		String codeRef = rq.getCodeRef();
+		List<Object> params = ofNullable(iteration.getDataValues()).map(Arrays::asList).orElse(null);
+		rq.setTestCaseId(getTestCaseId(featureMethodInfo, codeRef, params));
+		List<Object> paramList = ofNullable(params).orElse(Collections.emptyList());
+		List<String> names = feature.getParameterNames();
+		rq.setParameters(ParameterUtils.getParameters(
+				codeRef,
+				IntStream.range(0, paramList.size()).mapToObj(i -> Pair.of(names.get(i), paramList.get(i))).collect(Collectors.toList())
+		));
+		return rq;
+	}
+
+	@Nonnull
+	protected Maybe<String> startIteration(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		return startItem(parentId, rq);
+	}
+
+	protected void reportIterationStart(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq, @Nonnull IterationInfo iteration) {
+		holdItemLogs(rq, true);
+		Maybe<String> testItemId = startIteration(parentId, rq);
+		launchContext.addRunningIteration(testItemId, iteration);
+		errorDescriptionMap.put(launchContext.findIterationFootprint(iteration).getId(), Pair.of(rq.getDescription(), StringUtils.EMPTY));
+	}
+
+	/**
+	 * Register an iteration without sending its start request. The request keeps the captured start time and is sent
+	 * right before the finish one, if the iteration passes
+	 * {@link #isIterationReported(ReportableItemFootprint, ItemStatus)} check, otherwise the iteration is only accounted in
+	 * the feature's aggregated results. No server call and no pending response is held for a running iteration.
+	 *
+	 * @param parentId  parent item ID
+	 * @param rq        iteration start request
+	 * @param iteration Spock's iteration
+	 */
+	protected void deferIterationStart(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq, @Nonnull IterationInfo iteration) {
+		MaybeSubject<String> testItemId = MaybeSubject.create();
+		DeferredItem deferred = new DeferredItem(testItemId, parentId, rq, now());
+		deferred.holdLogs = isItemLogsHeld(true);
+		deferredItems.put(testItemId, deferred);
+		launchContext.addRunningIteration(testItemId, iteration);
+		errorDescriptionMap.put(testItemId, Pair.of(rq.getDescription(), StringUtils.EMPTY));
+	}
+
+	@Nonnull
+	protected StartTestItemRQ buildIterationGroupItemRq(@Nonnull FeatureInfo feature, long first, long last) {
+		StartTestItemRQ rq = buildBaseStartTestItemRq(String.format("Iterations %d\u2013%d", first, last), "SUITE");
+		rq.setDescription(feature.getName());
+		return rq;
+	}
+
+	/**
+	 * Find a parent item for an unrolled feature iteration, starting a new group item if grouping is on and the previous
+	 * group is full.
+	 *
+	 * @param iteration Spock's iteration
+	 * @return parent item ID
+	 */
+	@Nonnull
+	protected Maybe<String> getIterationParentId(@Nonnull IterationInfo iteration) {
+		FeatureInfo feature = iteration.getFeature();
+		Maybe<String> specId = launchContext.findSpecFootprint(feature.getSpec()).getId();
+		int groupSize = spockParameters.getIterationGroupSize();
+		if (groupSize <= 0 || isSummaryProfile()) {
+			return specId;
+		}
+		IterationGroup group = iterationGroups.computeIfAbsent(feature, f -> new IterationGroup());
+		synchronized (group) {
+			if (group.id == null) {
+				long last = group.first + groupSize - 1;
+				int estimated = iteration.getEstimatedNumIterations();
+				if (estimated >= group.first) {
+					last = Math.min(last, estimated);
+				}
+				group.id = startItem(specId, buildIterationGroupItemRq(feature, group.first, last));
+			}
+			group.started++;
+			return group.id;
+		}
+	}
+
+	/**
+	 * Account an unrolled feature iteration result in its group and finish the group if it's full.
+	 *
+	 * @param feature Spock's feature
+	 * @param status  iteration status
+	 */
+	protected void trackIterationGroup(@Nonnull FeatureInfo feature, @Nullable ItemStatus status) {
+		IterationGroup group = iterationGroups.get(feature);
+		if (group == null) {
+			return;
+		}
+		synchronized (group) {
+			group.finished++;
+			group.status = StatusEvaluation.evaluateStatus(group.status, status);
+			if (group.finished >= spockParameters.getIterationGroupSize() && group.finished >= group.started) {
+				finishIterationGroup(group);
+			}
+		}
+	}
+
+	private void finishIterationGroup(@Nonnull IterationGroup group) {
+		if (group.id == null) {
+			return;
+		}
+		finishItem(group.id, buildFinishTestItemRq(group.id, ofNullable(group.status).orElse(PASSED)));
+		group.id = null;
+		group.first += group.started;
+		group.started = 0;
+		group.finished = 0;
+		group.status = null;
+	}
+
+	public void registerIteration(@Nonnull IterationInfo iteration) {
+		if (iteration.getFeature().isReportIterations()) {
+			if (isSummaryProfile()) {
+				deferIterationStart(getIterationParentId(iteration), buildIterationItemRq(iteration), iteration);
+			} else {
+				reportIterationStart(getIterationParentId(iteration), buildIterationItemRq(iteration), iteration);
+			}
+		} else if (iteration.getFeature().isParameterized()) {
+			Maybe<String> parentId = launchContext.findFeatureFootprint(iteration.getFeature()).getId();
+			StartTestItemRQ rq = buildNestedIterationItemRq(iteration);
+			if (spockParameters.isNestedIterationsDeferred() || isSummaryProfile()) {
+				deferIterationStart(parentId, rq, iteration);
+			} else {
+				reportIterationStart(parentId, rq, iteration);
+			}
+		}
+	}
+
+	/**
+	 * Decide if a deferred nested iteration should be reported as a separate item.
+	 *
+	 * @param footprint iteration footprint
+	 * @param status    iteration status
+	 * @return true if the iteration should be reported
+	 */
+	protected boolean isIterationReported(@Nonnull ReportableItemFootprint<IterationInfo> footprint, @Nonnull ItemStatus status) {
+		if (isSummaryProfile()) {
+			return FAILED == status;
+		}
+		switch (spockParameters.getNestedIterations()) {
+			case FAILED:
+				return FAILED == status;
+			case SAMPLED:
+				IterationStatistics statistics = iterationStatistics.get(footprint.getItem().getFeature());
+				int rate = Math.max(1, spockParameters.getNestedIterationsSampleRate());
+				return FAILED == status || statistics == null || (statistics.getTotal() - 1) % rate == 0;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Build finish test item request object
+	 *
+	 * @param itemId item ID reference
+	 * @param status item result status
+	 * @return finish request
+	 */
+	@Nonnull
+	@SuppressWarnings("unused")
+	protected FinishTestItemRQ buildFinishTestItemRq(@Nonnull Maybe<String> itemId, @Nullable ItemStatus status) {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		ofNullable(status).ifPresent(s -> rq.setStatus(s.name()));
+		rq.setEndTime(now());
+		if (Objects.equals(status, ItemStatus.FAILED) && errorDescriptionMap.containsKey(itemId)) {
+			String formattedException = String.format("Error:\n%s", errorDescriptionMap.get(itemId).getRight());
+			if (StringUtils.isNotBlank(errorDescriptionMap.get(itemId).getLeft())) {
+				rq.setDescription(MarkdownUtils.asTwoParts(errorDescriptionMap.get(itemId).getLeft(), formattedException));
+			} else {
+				rq.setDescription(String.format(formattedException));
+			}
+		}
+		errorDescriptionMap.remove(itemId);
+		return rq;
+	}
+
+	protected void reportIterationFinish(@Nonnull ReportableItemFootprint<IterationInfo> footprint) {
+		ItemStatus status = footprint.getStatus().orElseGet(() -> {
+			footprint.setStatus(ItemStatus.PASSED);
+			return PASSED;
+		});
+		Maybe<String> itemId = footprint.getId();
+		DeferredItem deferred = deferredItems.remove(itemId);
+		if (deferred != null) {
+			FeatureInfo feature = footprint.getItem().getFeature();
+			Duration duration = Duration.between(deferred.startTime, now());
+			if (feature.isReportIterations()) {
+				trackSpecStatistics(feature.getSpec(), status, duration);
+			} else {
+				iterationStatistics.computeIfAbsent(feature, f -> new IterationStatistics()).add(status, duration);
+			}
+			if (!isIterationReported(footprint, status)) {
+				errorDescriptionMap.remove(itemId);
+				discardItemLogs(footprint.getItem());
+				deferred.id.onComplete();
+				footprint.markAsPublished();
+				return;
+			}
+			holdItemLogs(deferred);
+			Maybe<String> startedId = startIteration(deferred.parentId, deferred.rq);
+			deferred.startedId = startedId;
+			materializedItems.put(itemId, deferred);
+			startedId.subscribe(deferred.id);
+		}
+		FinishTestItemRQ rq = buildFinishTestItemRq(footprint.getId(), status);
+		if (SKIPPED == status) {
+			rq.setIssue(Launch.NOT_ISSUE);
+		}
+		flushItemLogs(footprint.getItem(), resolveItemId(itemId));
+		finishItem(itemId, rq);
+		footprint.markAsPublished();
 	}
 
 	protected void reportFeatureFinish(@Nonnull ReportableItemFootprint<FeatureInfo> footprint) {
@@ -358,271 +1455,1269 @@ public class ReportPortalSpockListener extends AbstractRunListener {
 						s = StatusEvaluation.evaluateStatus(s, fixtureFootprint.getStatus().orElse(null));
 					}
 				}
-				s = StatusEvaluation.evaluateStatus(s, childItemFootprint.getStatus().orElse(null));
+				s = StatusEvaluation.evaluateStatus(s, childItemFootprint.getStatus().orElse(null));
+			}
+			return ofNullable(s).orElseGet(() -> {
+				LOGGER.error("Unable to calculate status for feature", new IllegalStateException());
+				return FAILED;
+			});
+		});
+
+		Maybe<String> itemId = footprint.getId();
+		DeferredItem deferred = ofNullable(deferredItems.get(itemId)).orElseGet(() -> materializedItems.get(itemId));
+		if (deferred != null) {
+			FeatureInfo feature = footprint.getItem();
+			trackSpecStatistics(feature.getSpec(), status, Duration.between(deferred.startTime, now()));
+			if (FAILED != status && deferred.startedId == null) {
+				// nothing to show for the feature
+				deferredItems.remove(itemId);
+				iterationStatistics.remove(feature);
+				errorDescriptionMap.remove(itemId);
+				discardItemLogs(feature);
+				deferred.id.onComplete();
+				footprint.markAsPublished();
+				return;
+			}
+			resolveItemId(itemId);
+		}
+		FinishTestItemRQ rq = buildFinishTestItemRq(itemId, status);
+		if (SKIPPED == status) {
+			rq.setIssue(Launch.NOT_ISSUE);
+		}
+		ofNullable(iterationStatistics.remove(footprint.getItem())).ifPresent(statistics -> setStatistics(
+				rq,
+				statistics,
+				ofNullable(rq.getDescription()).orElseGet(() -> buildFeatureDescription(footprint.getItem()))
+		));
+		flushItemLogs(footprint.getItem(), itemId);
+		finishItem(itemId, rq);
+		footprint.markAsPublished();
+	}
+
+	protected void reportTestItemFinish(@Nonnull ReportableItemFootprint<?> footprint) {
+		Maybe<String> itemId = footprint.getId();
+		DeferredItem deferred = deferredItems.remove(itemId);
+		if (deferred != null) {
+			// an item which was not materialized is only accounted in its specification statistics
+			Object item = footprint.getItem();
+			FeatureInfo feature = item instanceof IterationInfo ? ((IterationInfo) item).getFeature() : null;
+			feature = item instanceof FeatureInfo ? (FeatureInfo) item : feature;
+			if (feature != null) {
+				trackSpecStatistics(feature.getSpec(), footprint.getStatus().orElse(PASSED), Duration.between(deferred.startTime, now()));
+			}
+			errorDescriptionMap.remove(itemId);
+			discardItemLogs(item);
+			deferred.id.onComplete();
+			footprint.markAsPublished();
+			return;
+		}
+		FinishTestItemRQ rq = buildFinishTestItemRq(itemId, footprint.getStatus().orElse(ItemStatus.PASSED));
+		flushItemLogs(footprint.getItem(), itemId);
+		finishItem(itemId, rq);
+		footprint.markAsPublished();
+	}
+
+	public void publishFeatureResult(@Nonnull FeatureInfo feature) {
+		reportFixtureAggregates(feature);
+		if (feature.isReportIterations()) {
+			Iterable<? extends ReportableItemFootprint<IterationInfo>> iterations = launchContext.findIterationFootprints(feature);
+			StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterations.iterator(), Spliterator.SIZED), false)
+					.filter(IS_NOT_PUBLISHED)
+					.forEach(this::reportTestItemFinish);
+			ofNullable(iterationGroups.remove(feature)).ifPresent(group -> {
+				synchronized (group) {
+					finishIterationGroup(group);
+				}
+			});
+		} else {
+			ReportableItemFootprint<FeatureInfo> footprint = launchContext.findFeatureFootprint(feature);
+			reportFeatureFinish(footprint);
+		}
+	}
+
+	@Nonnull
+	protected StartTestItemRQ buildFeatureItemRq(@Nonnull FeatureInfo featureInfo) {
+		StartTestItemRQ template = requestTemplates.get(featureInfo, () -> buildFeatureTemplate(featureInfo));
+		return RequestTemplates.apply(template, buildBaseStartTestItemRq(template.getName(), template.getType()));
+	}
+
+	@Nonnull
+	private StartTestItemRQ buildFeatureTemplate(@Nonnull FeatureInfo featureInfo) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(featureInfo.getName());
+		rq.setType(ITEM_TYPES_REGISTRY.get(FEATURE));
+		rq.setDescription(buildFeatureDescription(featureInfo));
+		MethodInfo featureMethodInfo = featureInfo.getFeatureMethod();
+		String codeRef = extractCodeRef(featureMethodInfo);
+		rq.setCodeRef(codeRef);
+		rq.setTestCaseId(getTestCaseId(featureMethodInfo, codeRef, null));
+		setFeatureAttributes(rq, featureInfo);
+		return rq;
+	}
+
+	@Nonnull
+	protected Maybe<String> startFeature(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
+		return startItem(parentId, rq);
+	}
+
+	protected void reportFeatureStart(@Nonnull Maybe<String> parentId, @Nonnull FeatureInfo featureInfo) {
+		StartTestItemRQ rq = buildFeatureItemRq(featureInfo);
+		holdItemLogs(rq, isSingleIteration(featureInfo));
+		launchContext.addRunningFeature(startFeature(parentId, rq), featureInfo);
+	}
+
+	public void reportFixtureError(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull MethodInfo method, @Nonnull Throwable exception) {
+		markLogsFailed(iteration);
+		NodeFootprint<?> ownerFootprint = findFixtureOwner(spec, feature, iteration, method);
+		MethodKind kind = method.getKind();
+		NodeFootprint<?> specFootprint = launchContext.findSpecFootprint(spec);
+		specFootprint.setStatus(FAILED);
+		if (!kind.isCleanupMethod()) {
+			if (feature != null) {
+				// Failed before / after feature
+				NodeFootprint<?> footprint;
+				if (feature.isParameterized() || feature.isReportIterations()) {
+					footprint = launchContext.findIterationFootprint(iteration);
+				} else {
+					footprint = launchContext.findFeatureFootprint(feature);
+				}
+				footprint.setStatus(SKIPPED);
+			} else {
+				// Failed before spec
+				reportSkippedFeatures(specFootprint.getId(), spec.getFeatures());
 			}
-			return ofNullable(s).orElseGet(() -> {
-				LOGGER.error("Unable to calculate status for feature", new IllegalStateException());
-				return FAILED;
+		}
+		ReportableItemFootprint<MethodInfo> fixtureFootprint = ownerFootprint.findUnpublishedFixtureFootprint(method);
+		fixtureFootprint.setStatus(FAILED);
+		LoggerFactory.getLogger(method.getReflection().getDeclaringClass())
+				.error(exception.getLocalizedMessage(), StackTraceUtils.deepSanitize(exception));
+	}
+
+	/**
+	 * @deprecated use {@link #reportFixtureError(SpecInfo, FeatureInfo, IterationInfo, MethodInfo, Throwable)} instead
+	 */
+	@Deprecated(since = "5.4.6", forRemoval = true)
+	public void reportFixtureError(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull ErrorInfo error) {
+		reportFixtureError(spec, feature, iteration, error.getMethod(), error.getException());
+	}
+
+	protected void logError(@Nonnull ErrorInfo error) {
+		Throwable exception = error.getException();
+		Maybe<String> iterationId = ofNullable(error.getMethod().getIteration()).map(launchContext::findIterationFootprint)
+				.map(ReportableItemFootprint::getId)
+				.orElse(null);
+		if (iterationId != null && deferredItems.containsKey(iterationId) && !isJournaling()) {
+			// the item is not started yet, the log will be sent as soon as the item ID is known
+			String message = ExceptionUtils.getStackTrace(exception, new Throwable());
+			Instant logTime = now();
+			launch.get().log(iterationId, itemUuid -> {
+				SaveLogRQ rq = new SaveLogRQ();
+				rq.setItemUuid(itemUuid);
+				rq.setLevel(LogLevel.ERROR.name());
+				rq.setLogTime(logTime);
+				rq.setMessage(message);
+				return rq;
 			});
-		});
+			return;
+		}
+		LocalJournal localJournal = journal;
+		if (localJournal != null) {
+			Maybe<String> itemId = ofNullable(error.getMethod().getIteration()).map(launchContext::findIterationFootprint)
+					.map(ReportableItemFootprint::getId)
+					.orElse(null);
+			if (isJournaled(itemId)) {
+				String itemReference = ofNullable(itemId).map(id -> getJournalReference(localJournal, id)).orElse(null);
+				localJournal.log(itemReference, "ERROR", ExceptionUtils.getStackTrace(exception, new Throwable()));
+				return;
+			}
+		}
+		ReportPortal.sendStackTraceToRP(exception);
+	}
 
-		Maybe<String> itemId = footprint.getId();
-		FinishTestItemRQ rq = buildFinishTestItemRq(itemId, status);
-		if (SKIPPED == status) {
+	public void reportError(@Nonnull ErrorInfo error) {
+		MethodInfo method = error.getMethod();
+		MethodKind kind = error.getMethod().getKind();
+		markLogsFailed(method.getIteration());
+		if (FEATURE == kind || FEATURE_EXECUTION == kind) {
+			ofNullable(launchContext.findFeatureFootprint(method.getFeature())).ifPresent(f -> f.setStatus(FAILED));
+			ofNullable(launchContext.getRuntimePointerForSpec(method.getParent())
+					.getCurrentIteration()).map(launchContext::findIterationFootprint).ifPresent(i -> i.setStatus(FAILED));
+			Maybe<String> itemId = launchContext.findIterationFootprint(error.getMethod().getIteration()).getId();
+			String startDescriptions = ofNullable(errorDescriptionMap.get(itemId)).map(Pair::getLeft).orElse(null);
+			Pair<String, String> startFinishDescriptions = Pair.of(
+					startDescriptions,
+					ExceptionUtils.getStackTrace(error.getException(), new Throwable())
+			);
+			errorDescriptionMap.put(itemId, startFinishDescriptions);
+			logError(error);
+		} else if (ITERATION_EXECUTION == kind) {
+			ofNullable(launchContext.findIterationFootprint(method.getIteration())).ifPresent(i -> i.setStatus(FAILED));
+			logError(error);
+		} else if (SPEC_EXECUTION == kind) {
+			ofNullable(launchContext.findSpecFootprint(error.getMethod().getFeature().getSpec())).ifPresent(s -> s.setStatus(FAILED));
+			logError(error);
+		}
+	}
+
+	protected void trackSkippedSpec(SpecInfo spec) {
+		registerSpec(spec);
+		ReportableItemFootprint<SpecInfo> specFootprint = launchContext.findSpecFootprint(spec);
+		specFootprint.setStatus(SKIPPED);
+	}
+
+	@Nonnull
+	protected StartTestItemRQ buildSkippedFeaturesItemRq(@Nonnull Collection<FeatureInfo> features) {
+		StartTestItemRQ rq = buildBaseStartTestItemRq(
+				String.format("%d features skipped", features.size()),
+				ITEM_TYPES_REGISTRY.get(FEATURE)
+		);
+		rq.setDescription(features.stream().map(f -> "* " + f.getName()).collect(Collectors.joining("\n")));
+		return rq;
+	}
+
+	/**
+	 * Report features which were not run in one pass. In summary profile the features are only accounted in the
+	 * specification statistics, with {@link SpockParameters#isSkippedCollapse()} they are reported as one item.
+	 *
+	 * @param parentId specification item ID
+	 * @param features skipped features
+	 */
+	protected void reportSkippedFeatures(@Nonnull Maybe<String> parentId, @Nonnull Collection<FeatureInfo> features) {
+		if (features.isEmpty()) {
+			return;
+		}
+		if (isSummaryProfile()) {
+			features.forEach(f -> {
+				launchContext.addRunningFeature(null, f);
+				NodeFootprint<FeatureInfo> footprint = launchContext.findFeatureFootprint(f);
+				footprint.setStatus(SKIPPED);
+				footprint.markAsPublished();
+				trackSpecStatistics(f.getSpec(), SKIPPED, Duration.ZERO);
+			});
+			return;
+		}
+		if (spockParameters.isSkippedCollapse() && features.size() > 1) {
+			Maybe<String> itemId = startFeature(parentId, buildSkippedFeaturesItemRq(features));
+			FinishTestItemRQ rq = buildFinishTestItemRq(itemId, SKIPPED);
 			rq.setIssue(Launch.NOT_ISSUE);
+			finishItem(itemId, rq);
+			features.forEach(f -> {
+				launchContext.addRunningFeature(itemId, f);
+				NodeFootprint<FeatureInfo> footprint = launchContext.findFeatureFootprint(f);
+				footprint.setStatus(SKIPPED);
+				footprint.markAsPublished();
+			});
+			return;
+		}
+		features.forEach(f -> {
+			reportFeatureStart(parentId, f);
+			NodeFootprint<FeatureInfo> footprint = launchContext.findFeatureFootprint(f);
+			footprint.setStatus(SKIPPED);
+			reportFeatureFinish(footprint);
+		});
+	}
+
+	protected void trackSkippedFeature(FeatureInfo feature) {
+		Maybe<String> specId = launchContext.findSpecFootprint(feature.getSpec()).getId();
+		if (isSummaryProfile()) {
+			deferFeatureStart(specId, feature);
+		} else {
+			reportFeatureStart(specId, feature);
+		}
+		NodeFootprint<FeatureInfo> footprint = launchContext.findFeatureFootprint(feature);
+		footprint.setStatus(SKIPPED);
+	}
+
+	@Nonnull
+	private FinishExecutionRQ buildFinishExecutionRq() {
+		FinishExecutionRQ rq = new FinishExecutionRQ();
+		rq.setEndTime(Instant.now());
+		return rq;
+	}
+
+	public void finishLaunch() {
+		awaitLaunchStartup();
+		ofNullable(eventLoop).ifPresent(ReportingEventLoop::shutdown);
+		requestTemplates.shutdown();
+		resubmitAllSpilled();
+		if (launchContext.tryFinishLaunch()) {
+			LaunchDrain drain = new LaunchDrain(
+					inFlightWindow,
+					spockParameters.getDrainThreads(),
+					spockParameters.getDrainTimeout(),
+					spockParameters.getDrainProgress()
+			);
+			drain.start();
+			try {
+				// publish all registered unpublished specifications first, failed ones go before the others
+				drain.finishAll(
+						failedFirst(launchContext.findAllUnpublishedSpecFootprints()),
+						this::reportTestItemFinish,
+						f -> f.getItem().getName()
+				);
+
+				// finish launch
+				FinishExecutionRQ rq = buildFinishExecutionRq();
+				LocalJournal localJournal = journal;
+				if (localJournal != null) {
+					localJournal.finishLaunch(rq);
+					localJournal.close();
+					LOGGER.warn("Reporting requests were saved to the local journal: {}", localJournal.getFile());
+				}
+				if (uploader != null && uploader.getPending() > 0) {
+					uploader.await(Math.min(spockParameters.getAttachmentsTimeout(), drain.getRemaining()));
+				}
+				if (clientLogs != null) {
+					// logs of items, which were not finished, are sent as is
+					clientLogs.releaseAll();
+					clientLogs.await(drain.getRemaining());
+				}
+				if (!failedOpen) {
+					ofNullable(rendezvous).ifPresent(LaunchRendezvous::leave);
+					Launch current = launch.get();
+					drain.run("launch finish", () -> current.finish(rq));
+					if (!drain.getAbandoned().contains("launch finish")) {
+						ofNullable(rendezvous).ifPresent(LaunchRendezvous::close);
+					}
+				}
+			} finally {
+				drain.stop();
+			}
+			if (inFlightWindow.isBounded()) {
+				LOGGER.info("Reporting in-flight window: {}", inFlightWindow);
+			}
+			this.launch.reset();
+		}
+		// launches finished by the rollover
+		rolledOverLaunches.forEach(CompletableFuture::join);
+	}
+
+	/**
+	 * Finish the launch when the JVM is stopped before the end of the test run, e.g. by a build tool timeout or a kill
+	 * signal. All unpublished items are finished concurrently with {@link ItemStatus#INTERRUPTED} status, then the launch is
+	 * finished, all within {@link SpockParameters#getShutdownTimeout()}. Items and the launch finish, which didn't fit into
+	 * the time, are saved to a local journal, which can be uploaded later with {@link LocalJournal#replay(Path, ReportPortal)}.
+	 * Does nothing if the launch is not started or is already finished.
+	 */
+	public void emergencyFinish() {
+		if (!launchContext.tryFinishLaunch()) {
+			return;
+		}
+		LOGGER.warn("The JVM is stopping before the test run end, finishing the launch with interrupted items");
+		LaunchDrain drain = new LaunchDrain(inFlightWindow, spockParameters.getDrainThreads(), spockParameters.getShutdownTimeout(), 0);
+		try {
+			ofNullable(eventLoop).ifPresent(loop -> drain.run("reporting events", loop::shutdown));
+			drain.run("spilled items", this::resubmitAllSpilled);
+			List<NodeFootprint<SpecInfo>> specs = failedFirst(launchContext.findAllUnpublishedSpecFootprints());
+			drain.finishAll(specs, spec -> collectUnpublished(spec).forEach(footprint -> {
+				footprint.setStatus(INTERRUPTED);
+				reportTestItemFinish(footprint);
+			}), f -> f.getItem().getName());
+
+			FinishExecutionRQ rq = buildFinishExecutionRq();
+			rq.setStatus(INTERRUPTED.name());
+			LocalJournal localJournal = journal;
+			if (localJournal != null) {
+				localJournal.finishLaunch(rq);
+				localJournal.close();
+				LOGGER.warn("Reporting requests were saved to the local journal: {}", localJournal.getFile());
+			}
+			ofNullable(clientLogs).ifPresent(logs -> drain.run("held logs", () -> {
+				logs.releaseAll();
+				logs.await(drain.getRemaining());
+			}));
+			if (!failedOpen) {
+				// the JVM is going down, there is no time to wait for other forks
+				ofNullable(rendezvous).ifPresent(r -> r.leave(false));
+				Launch current = launch.get();
+				drain.run("launch finish", () -> current.finish(rq));
+				if (!drain.getAbandoned().isEmpty()) {
+					saveInterrupted(specs, drain.getAbandoned().contains("launch finish") ? rq : null);
+				}
+			}
+		} finally {
+			drain.stop();
+		}
+	}
+
+	/**
+	 * Order leftover items so failures reach the server first when the launch finish is under load.
+	 *
+	 * @param footprints item footprints
+	 * @param <T>        footprint type
+	 * @return failed items followed by the others, in the original order otherwise
+	 */
+	@Nonnull
+	private static <T extends ReportableItemFootprint<?>> List<T> failedFirst(@Nonnull Iterable<? extends T> footprints) {
+		List<T> result = new ArrayList<>();
+		footprints.forEach(result::add);
+		result.sort(Comparator.comparing(f -> f.getStatus().filter(FAILED::equals).isEmpty()));
+		return result;
+	}
+
+	/**
+	 * @param specFootprint specification footprint
+	 * @return unpublished reported items of the specification, descendants go before their parents
+	 */
+	@Nonnull
+	private List<ReportableItemFootprint<?>> collectUnpublished(@Nonnull NodeFootprint<SpecInfo> specFootprint) {
+		List<ReportableItemFootprint<?>> result = new ArrayList<>();
+		Consumer<NodeFootprint<?>> collector = node -> {
+			node.getFixtures().stream().filter(IS_NOT_PUBLISHED).forEach(result::add);
+			if (IS_NOT_PUBLISHED.test(node)) {
+				result.add(node);
+			}
+		};
+		for (FeatureInfo feature : specFootprint.getItem().getAllFeatures()) {
+			ofNullable(launchContext.findIterationFootprints(feature)).ifPresent(iterations -> iterations.forEach(collector));
+			ofNullable(launchContext.findFeatureFootprint(feature)).ifPresent(collector);
+		}
+		collector.accept(specFootprint);
+		result.removeIf(footprint -> footprint.getId() == null);
+		return result;
+	}
+
+	/**
+	 * Save finish requests of the items and the launch, which were not finished in the JVM shutdown time, to a local
+	 * journal.
+	 *
+	 * @param specs          specifications which were finished on the shutdown
+	 * @param finishLaunchRq launch finish request if the launch finish was not completed in time
+	 */
+	private void saveInterrupted(@Nonnull List<NodeFootprint<SpecInfo>> specs, @Nullable FinishExecutionRQ finishLaunchRq) {
+		String launchUuid = resolveNow(launchContext.getLaunchId());
+		if (launchUuid == null) {
+			return;
+		}
+		Path file = spockParameters.getWorkDir().resolve("interrupted-" + ProcessHandle.current().pid() + ".jsonl");
+		try (LocalJournal interrupted = new LocalJournal(file)) {
+			interrupted.resumeLaunch(launchUuid);
+			specs.stream().flatMap(spec -> collectUnpublished(spec).stream()).forEach(footprint -> {
+				String itemUuid = resolveNow(footprint.getId());
+				if (itemUuid != null) {
+					FinishTestItemRQ rq = new FinishTestItemRQ();
+					rq.setStatus(INTERRUPTED.name());
+					rq.setEndTime(Instant.now());
+					interrupted.finishServerItem(itemUuid, rq);
+				}
+			});
+			ofNullable(finishLaunchRq).ifPresent(interrupted::finishLaunch);
+			LOGGER.warn("Unfinished reporting requests were saved to the local journal: {}", file);
+		} catch (IOException e) {
+			LOGGER.error("Unable to save unfinished reporting requests: " + file, e);
+		}
+	}
+
+	@Nullable
+	private static String resolveNow(@Nullable Maybe<String> id) {
+		return resolveWithin(id, 100);
+	}
+
+	@Nullable
+	private static String resolveWithin(@Nullable Maybe<String> id, long timeout) {
+		if (id == null) {
+			return null;
+		}
+		try {
+			return id.timeout(timeout, TimeUnit.MILLISECONDS).blockingGet();
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	protected NodeFootprint<? extends NodeInfo> findFixtureOwner(SpecInfo spec, FeatureInfo feature, IterationInfo iteration,
+			MethodInfo fixture) {
+		MethodKind kind = fixture.getKind();
+		if (kind.isSpecScopedFixtureMethod()) {
+			return launchContext.findSpecFootprint(spec);
+		} else if (!feature.isParameterized() && !feature.isReportIterations()) {
+			return launchContext.findFeatureFootprint(feature);
+		} else {
+			return launchContext.findIterationFootprint(iteration);
+		}
+	}
+
+	/**
+	 * Set feature item attributes. Like {@link #setSpecAttributes(StartTestItemRQ, SpecInfo)}, the method is called once
+	 * per feature, possibly on a templates pool thread, and the result is shared by all iterations of the feature.
+	 *
+	 * @param rq          feature request template
+	 * @param featureInfo Spock's feature
+	 */
+	protected void setFeatureAttributes(@Nonnull StartTestItemRQ rq, @Nonnull FeatureInfo featureInfo) {
+		if (SpecMetadataTable.mayHaveAttributes(featureInfo.getFeatureMethod())) {
+			setAttributes(rq, featureInfo.getFeatureMethod().getReflection());
+		}
+	}
+
+	@Nullable
+	private static String getTestCaseId(@Nonnull MethodInfo featureMethodInfo, @Nullable String codeRef,
+			@Nullable List<Object> params) {
+		return SpecMetadataTable.getTestCaseId(featureMethodInfo)
+				.orElseGet(() -> ofNullable(TestCaseIdUtils.getTestCaseId(
+						getTestCaseIdAnnotation(featureMethodInfo),
+						featureMethodInfo.getReflection(),
+						codeRef,
+						params
+				)).map(TestCaseIdEntry::getId).orElse(null));
+	}
+
+	@Nullable
+	private static TestCaseId getTestCaseIdAnnotation(@Nonnull MethodInfo featureMethodInfo) {
+		return SpecMetadataTable.mayHaveTestCaseId(featureMethodInfo) ?
+				featureMethodInfo.getReflection().getAnnotation(TestCaseId.class) :
+				null;
+	}
+
+	private boolean isSummaryProfile() {
+		return spockParameters.getProfile() == SpockParameters.Profile.SUMMARY;
+	}
+
+	/**
+	 * Register a feature without sending its start request. The feature is reported only if it fails or one of its
+	 * descendants is reported.
+	 *
+	 * @param parentId    parent item ID
+	 * @param featureInfo Spock's feature
+	 */
+	protected void deferFeatureStart(@Nonnull Maybe<String> parentId, @Nonnull FeatureInfo featureInfo) {
+		StartTestItemRQ rq = buildFeatureItemRq(featureInfo);
+		MaybeSubject<String> testItemId = MaybeSubject.create();
+		DeferredItem deferred = new DeferredItem(testItemId, parentId, rq, now());
+		deferred.holdLogs = isItemLogsHeld(isSingleIteration(featureInfo));
+		deferredItems.put(testItemId, deferred);
+		launchContext.addRunningFeature(testItemId, featureInfo);
+	}
+
+	/**
+	 * Account a test result in its specification's aggregated statistics, used in summary profile.
+	 *
+	 * @param spec     Spock's specification
+	 * @param status   test status
+	 * @param duration test duration
+	 */
+	protected void trackSpecStatistics(@Nonnull SpecInfo spec, @Nonnull ItemStatus status, @Nonnull Duration duration) {
+		specStatistics.computeIfAbsent(getReportedSpec(spec), s -> new IterationStatistics(IterationStatistics.TESTS))
+				.add(status, duration);
+	}
+
+	/**
+	 * @param spec Spock's specification, possibly a parent of the running one
+	 * @return the running specification which is reported as an item
+	 */
+	@Nonnull
+	private SpecInfo getReportedSpec(@Nonnull SpecInfo spec) {
+		return ofNullable(launchContext.findSpecFootprint(spec)).map(ReportableItemFootprint::getItem).orElse(spec);
+	}
+
+	private static void setStatistics(@Nonnull FinishTestItemRQ rq, @Nonnull IterationStatistics statistics,
+			@Nullable String description) {
+		Set<ItemAttributesRQ> attributes = new LinkedHashSet<>(ofNullable(rq.getAttributes()).orElse(Collections.emptySet()));
+		attributes.addAll(statistics.toAttributes());
+		rq.setAttributes(attributes);
+		rq.setDescription(StringUtils.isBlank(description) ?
+				statistics.toDescription() :
+				MarkdownUtils.asTwoParts(description, statistics.toDescription()));
+	}
+
+	public void registerFeature(@Nonnull FeatureInfo feature) {
+		if (!feature.isReportIterations()) {
+			Maybe<String> specId = launchContext.findSpecFootprint(feature.getSpec()).getId();
+			if (isSummaryProfile()) {
+				deferFeatureStart(specId, feature);
+			} else {
+				reportFeatureStart(specId, feature);
+			}
+		} else if (!feature.isSkipped()) {
+			launchContext.addRunningFeature(null, feature);
+		}
+	}
+
+	public void publishSpecResult(@Nonnull SpecInfo spec) {
+		ReportableItemFootprint<SpecInfo> specFootprint = launchContext.findSpecFootprint(spec);
+		ofNullable(skippedFeatures.remove(spec)).ifPresent(features -> reportSkippedFeatures(specFootprint.getId(), features));
+		IterationStatistics statistics = specStatistics.remove(spec);
+		if (statistics == null) {
+			reportTestItemFinish(specFootprint);
+		} else {
+			Maybe<String> itemId = specFootprint.getId();
+			ItemStatus status = specFootprint.getStatus().orElse(statistics.getCount(FAILED) > 0 ? FAILED : PASSED);
+			FinishTestItemRQ rq = buildFinishTestItemRq(itemId, status);
+			setStatistics(rq, statistics, spec.getNarrative());
+			flushItemLogs(spec, itemId);
+			finishItem(itemId, rq);
+			specFootprint.markAsPublished();
+		}
+		removeSpecTemplates(spec);
+		rolloverLaunch();
+	}
+
+	private void startContinuationLaunch() {
+		if (!rolloverPending) {
+			return;
+		}
+		synchronized (launchStartupLock) {
+			if (rolloverPending) {
+				//noinspection ReactiveStreamsUnusedPublisher
+				startLaunch();
+				rolloverPending = false;
+				LOGGER.info("Reporting continues in the launch part {}", launchPart);
+			}
+		}
+	}
+
+	private boolean isRolloverDue() {
+		long maxItems = spockParameters.getLaunchRolloverItems();
+		long maxTime = spockParameters.getLaunchRolloverTime();
+		Instant startTime = launchStartTime;
+		return (maxItems > 0 && launchItems.get() >= maxItems) || (maxTime > 0 && startTime != null
+				&& Duration.between(startTime, Instant.now()).toMillis() >= maxTime);
+	}
+
+	/**
+	 * Finish the current launch, if it reached the configured item count or duration, so the next specification starts a
+	 * continuation launch. The rollover happens only at a specification boundary, when no other specification runs in the
+	 * launch. The continuation launch has the same name and attributes, plus its part number and the previous launch
+	 * UUID. The previous launch is finished on a background thread, {@link #finishLaunch()} waits for it.
+	 */
+	protected void rolloverLaunch() {
+		if (launchParameters == null || rendezvous != null || isJournaling() || !isRolloverDue()) {
+			return;
+		}
+		if (!rolloverLock.writeLock().tryLock()) {
+			// a specification is being registered, the rollover is retried at the next boundary
+			return;
+		}
+		try {
+			if (launchContext.findAllUnpublishedSpecFootprints().iterator().hasNext() || !launchContext.tryFinishLaunch()) {
+				return;
+			}
+			String launchUuid = getLaunchUuid();
+			Launch current = launch.get();
+			FinishExecutionRQ rq = buildFinishExecutionRq();
+			CompletableFuture<Void> finish = new CompletableFuture<>();
+			Thread thread = new Thread(
+					() -> {
+						try {
+							current.finish(rq);
+						} catch (RuntimeException e) {
+							LOGGER.error("Unable to finish the launch {}", launchUuid, e);
+						} finally {
+							finish.complete(null);
+						}
+					}, "rp-spock-rollover"
+			);
+			thread.setDaemon(true);
+			thread.start();
+			rolledOverLaunches.add(finish);
+
+			previousLaunchUuid = launchUuid;
+			launchPart++;
+			preparedStartLaunchRq = null;
+			launch.reset();
+			launchContext.resetLaunch();
+			rolloverPending = true;
+			LOGGER.info("Launch {} reached the rollover limit and is finished", launchUuid);
+		} finally {
+			rolloverLock.writeLock().unlock();
 		}
-		//noinspection ReactiveStreamsUnusedPublisher
-		launch.get().finishTestItem(itemId, rq);
-		footprint.markAsPublished();
 	}
 
-	protected void reportTestItemFinish(@Nonnull ReportableItemFootprint<?> footprint) {
-		Maybe<String> itemId = footprint.getId();
-		FinishTestItemRQ rq = buildFinishTestItemRq(itemId, footprint.getStatus().orElse(ItemStatus.PASSED));
-		//noinspection ReactiveStreamsUnusedPublisher
-		launch.get().finishTestItem(itemId, rq);
-		footprint.markAsPublished();
+	/**
+	 * Send buffered logs to an item.
+	 *
+	 * @param itemId  item ID
+	 * @param entries log entries
+	 * @param dropped number of entries discarded because the buffer was full
+	 */
+	protected void sendBufferedLogs(@Nonnull Maybe<String> itemId, @Nonnull List<ItemLogBuffer.Entry> entries, long dropped) {
+		if (dropped > 0) {
+			Instant time = entries.isEmpty() ? now() : entries.get(0).time;
+			entries = new ArrayList<>(entries);
+			entries.add(0, new ItemLogBuffer.Entry(
+					LogLevel.WARN.name(),
+					String.format("%d earlier log entries were discarded", dropped),
+					time
+			));
+		}
+		LocalJournal localJournal = journal;
+		if (localJournal != null && isJournaled(resolveItemId(itemId))) {
+			String reference = getJournalReference(localJournal, resolveItemId(itemId));
+			entries.forEach(e -> localJournal.log(reference, e.level, e.message));
+			return;
+		}
+		Launch myLaunch = launch.get();
+		entries.forEach(e -> myLaunch.log(itemId, itemUuid -> {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setItemUuid(itemUuid);
+			rq.setLevel(e.level);
+			rq.setLogTime(e.time);
+			rq.setMessage(e.message);
+			return rq;
+		}));
 	}
 
-	public void publishFeatureResult(@Nonnull FeatureInfo feature) {
-		if (feature.isReportIterations()) {
-			Iterable<? extends ReportableItemFootprint<IterationInfo>> iterations = launchContext.findIterationFootprints(feature);
-			StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterations.iterator(), Spliterator.SIZED), false)
-					.filter(IS_NOT_PUBLISHED)
-					.forEach(this::reportTestItemFinish);
+	/**
+	 * Send buffered logs of an iteration if it failed, discard them otherwise.
+	 *
+	 * @param iteration Spock's iteration
+	 */
+	protected void publishIterationLogs(@Nonnull IterationInfo iteration) {
+		if (spockParameters.getLogsMode() != SpockParameters.LogsMode.FAILURE) {
+			return;
+		}
+		ItemLogBuffer buffer = logBuffers.remove(iteration);
+		if (buffer == null) {
+			return;
+		}
+		Maybe<String> itemId = ofNullable(launchContext.findIterationFootprint(iteration)).map(ReportableItemFootprint::getId)
+				.orElseGet(() -> ofNullable(launchContext.findFeatureFootprint(iteration.getFeature())).map(ReportableItemFootprint::getId)
+						.orElse(null));
+		if (itemId == null) {
+			return;
+		}
+		if (buffer.isFailed()) {
+			ofNullable(clientLogs).ifPresent(logs -> logs.release(itemId));
+			sendBufferedLogs(itemId, buffer.drain(), buffer.getDropped());
 		} else {
-			ReportableItemFootprint<FeatureInfo> footprint = launchContext.findFeatureFootprint(feature);
-			reportFeatureFinish(footprint);
+			ofNullable(clientLogs).ifPresent(logs -> logs.drop(itemId));
 		}
 	}
 
-	@Nonnull
-	protected StartTestItemRQ buildFeatureItemRq(@Nonnull FeatureInfo featureInfo) {
-		StartTestItemRQ rq = buildBaseStartTestItemRq(featureInfo.getName(), ITEM_TYPES_REGISTRY.get(FEATURE));
-		rq.setDescription(buildFeatureDescription(featureInfo));
-		MethodInfo featureMethodInfo = featureInfo.getFeatureMethod();
-		String codeRef = extractCodeRef(featureMethodInfo);
-		rq.setCodeRef(codeRef);
-		Method method = featureMethodInfo.getReflection();
-		TestCaseId testCaseId = method.getAnnotation(TestCaseId.class);
-		rq.setTestCaseId(ofNullable(TestCaseIdUtils.getTestCaseId(testCaseId, method, codeRef, null)).map(TestCaseIdEntry::getId)
-				.orElse(null));
-		setFeatureAttributes(rq, featureInfo);
-		return rq;
+	/**
+	 * @param feature Spock's feature
+	 * @return true if the feature item is the item of its only iteration
+	 */
+	private static boolean isSingleIteration(@Nonnull FeatureInfo feature) {
+		return !feature.isReportIterations() && !feature.isParameterized();
 	}
 
-	@Nonnull
-	protected Maybe<String> startFeature(@Nonnull Maybe<String> parentId, @Nonnull StartTestItemRQ rq) {
-		return launch.get().startTestItem(parentId, rq);
+	/**
+	 * @param iteration true if the item is the item of an iteration
+	 * @return true if logs of the item are held in the client till its result is known
+	 */
+	private boolean isItemLogsHeld(boolean iteration) {
+		SpockParameters.LogsMode mode = spockParameters.getLogsMode();
+		return clientLogs != null && (mode == SpockParameters.LogsMode.ITEM || (mode == SpockParameters.LogsMode.FAILURE && iteration));
 	}
 
-	protected void reportFeatureStart(@Nonnull Maybe<String> parentId, @Nonnull FeatureInfo featureInfo) {
-		StartTestItemRQ rq = buildFeatureItemRq(featureInfo);
-		launchContext.addRunningFeature(startFeature(parentId, rq), featureInfo);
+	/**
+	 * Hold logs, which reach the item through the client, till the item result is known, see {@link ClientLogBuffer}.
+	 *
+	 * @param rq        item start request
+	 * @param iteration true if the item is the item of an iteration
+	 */
+	private void holdItemLogs(@Nonnull StartTestItemRQ rq, boolean iteration) {
+		if (isItemLogsHeld(iteration)) {
+			clientLogs.hold(rq);
+		}
 	}
 
-	public void reportFixtureError(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
-			@Nonnull MethodInfo method, @Nonnull Throwable exception) {
-		NodeFootprint<?> ownerFootprint = findFixtureOwner(spec, feature, iteration, method);
-		MethodKind kind = method.getKind();
-		NodeFootprint<?> specFootprint = launchContext.findSpecFootprint(spec);
-		specFootprint.setStatus(FAILED);
-		if (!kind.isCleanupMethod()) {
-			if (feature != null) {
-				// Failed before / after feature
-				NodeFootprint<?> footprint;
-				if (feature.isParameterized() || feature.isReportIterations()) {
-					footprint = launchContext.findIterationFootprint(iteration);
-				} else {
-					footprint = launchContext.findFeatureFootprint(feature);
-				}
-				footprint.setStatus(SKIPPED);
-			} else {
-				// Failed before spec
-				spec.getFeatures().forEach(f -> {
-					reportFeatureStart(specFootprint.getId(), f);
-					NodeFootprint<FeatureInfo> ff = launchContext.findFeatureFootprint(f);
-					ff.setStatus(SKIPPED);
-					reportFeatureFinish(ff);
-				});
-			}
+	private void holdItemLogs(@Nonnull DeferredItem deferred) {
+		if (deferred.holdLogs && clientLogs != null) {
+			clientLogs.hold(deferred.rq);
 		}
-		ReportableItemFootprint<MethodInfo> fixtureFootprint = ownerFootprint.findUnpublishedFixtureFootprint(method);
-		fixtureFootprint.setStatus(FAILED);
-		LoggerFactory.getLogger(method.getReflection().getDeclaringClass())
-				.error(exception.getLocalizedMessage(), StackTraceUtils.deepSanitize(exception));
 	}
 
 	/**
-	 * @deprecated use {@link #reportFixtureError(SpecInfo, FeatureInfo, IterationInfo, MethodInfo, Throwable)} instead
+	 * @param iteration Spock's iteration
+	 * @return the iteration if it's reported as a separate item, its feature otherwise
 	 */
-	@Deprecated(since = "5.4.6", forRemoval = true)
-	public void reportFixtureError(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
-			@Nonnull ErrorInfo error) {
-		reportFixtureError(spec, feature, iteration, error.getMethod(), error.getException());
+	@Nonnull
+	private static Object getReportedItem(@Nonnull IterationInfo iteration) {
+		FeatureInfo feature = iteration.getFeature();
+		return feature.isReportIterations() || feature.isParameterized() ? iteration : feature;
 	}
 
-	protected void logError(@Nonnull ErrorInfo error) {
-		Throwable exception = error.getException();
-		ReportPortal.sendStackTraceToRP(exception);
+	@Nullable
+	private Maybe<String> findItemId(@Nonnull Object item) {
+		ReportableItemFootprint<?> footprint = null;
+		if (item instanceof IterationInfo) {
+			footprint = launchContext.findIterationFootprint((IterationInfo) item);
+		} else if (item instanceof FeatureInfo) {
+			footprint = launchContext.findFeatureFootprint((FeatureInfo) item);
+		} else if (item instanceof SpecInfo) {
+			footprint = launchContext.findSpecFootprint((SpecInfo) item);
+		}
+		return ofNullable(footprint).map(ReportableItemFootprint::getId).orElse(null);
 	}
 
-	public void reportError(@Nonnull ErrorInfo error) {
-		MethodInfo method = error.getMethod();
-		MethodKind kind = error.getMethod().getKind();
-		if (FEATURE == kind || FEATURE_EXECUTION == kind) {
-			ofNullable(launchContext.findFeatureFootprint(method.getFeature())).ifPresent(f -> f.setStatus(FAILED));
-			ofNullable(launchContext.getRuntimePointerForSpec(method.getParent())
-					.getCurrentIteration()).map(launchContext::findIterationFootprint).ifPresent(i -> i.setStatus(FAILED));
-			Maybe<String> itemId = launchContext.findIterationFootprint(error.getMethod().getIteration()).getId();
-			String startDescriptions = ofNullable(errorDescriptionMap.get(itemId)).map(Pair::getLeft).orElse(null);
-			Pair<String, String> startFinishDescriptions = Pair.of(
-					startDescriptions,
-					ExceptionUtils.getStackTrace(error.getException(), new Throwable())
-			);
-			errorDescriptionMap.put(itemId, startFinishDescriptions);
-			logError(error);
-		} else if (ITERATION_EXECUTION == kind) {
-			ofNullable(launchContext.findIterationFootprint(method.getIteration())).ifPresent(i -> i.setStatus(FAILED));
-			logError(error);
-		} else if (SPEC_EXECUTION == kind) {
-			ofNullable(launchContext.findSpecFootprint(error.getMethod().getFeature().getSpec())).ifPresent(s -> s.setStatus(FAILED));
-			logError(error);
-		}
+	/**
+	 * Create a log buffer of an item for {@link SpockParameters.LogsMode#ITEM} mode. When the buffer reaches its size or
+	 * time limit, the buffered logs are sent to the item in the order of other reporting events.
+	 *
+	 * @param item Spock's specification, feature or iteration
+	 * @return log buffer
+	 */
+	@Nonnull
+	protected ItemLogBuffer createItemLogBuffer(@Nonnull Object item) {
+		Consumer<List<ItemLogBuffer.Entry>> overflow = batch -> dispatch(ReportingEvent.logs(item, batch));
+		return new ItemLogBuffer(spockParameters.getLogsBufferSize(), spockParameters.getLogsFlushTime(), overflow);
 	}
 
-	protected void trackSkippedSpec(SpecInfo spec) {
-		registerSpec(spec);
-		ReportableItemFootprint<SpecInfo> specFootprint = launchContext.findSpecFootprint(spec);
-		specFootprint.setStatus(SKIPPED);
+	/**
+	 * Send buffered logs of an item as one batch, right before the item finish request. Used in
+	 * {@link SpockParameters.LogsMode#ITEM} mode only.
+	 *
+	 * @param item   Spock's specification, feature or iteration
+	 * @param itemId item ID
+	 */
+	protected void flushItemLogs(@Nonnull Object item, @Nonnull Maybe<String> itemId) {
+		if (spockParameters.getLogsMode() != SpockParameters.LogsMode.ITEM) {
+			return;
+		}
+		ofNullable(clientLogs).ifPresent(logs -> logs.release(itemId));
+		ofNullable(logBuffers.remove(item)).map(ItemLogBuffer::drain).filter(entries -> !entries.isEmpty())
+				.ifPresent(entries -> sendBufferedLogs(itemId, entries, 0));
 	}
 
-	protected void trackSkippedFeature(FeatureInfo feature) {
-		reportFeatureStart(launchContext.findSpecFootprint(feature.getSpec()).getId(), feature);
-		NodeFootprint<FeatureInfo> footprint = launchContext.findFeatureFootprint(feature);
-		footprint.setStatus(SKIPPED);
+	private void discardItemLogs(@Nonnull Object item) {
+		if (spockParameters.getLogsMode() == SpockParameters.LogsMode.ITEM) {
+			logBuffers.remove(item);
+		}
 	}
 
 	@Nonnull
-	private FinishExecutionRQ buildFinishExecutionRq() {
-		FinishExecutionRQ rq = new FinishExecutionRQ();
-		rq.setEndTime(Instant.now());
-		return rq;
+	private static List<AttachOnFailure> getAttachOnFailure(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature) {
+		List<AttachOnFailure> result = new ArrayList<>();
+		ofNullable(spec.getBottomSpec()).map(SpecInfo::getReflection).map(c -> c.getAnnotation(AttachOnFailure.class))
+				.ifPresent(result::add);
+		ofNullable(feature).map(FeatureInfo::getFeatureMethod).map(MethodInfo::getReflection)
+				.map(m -> m.getAnnotation(AttachOnFailure.class))
+				.ifPresent(result::add);
+		return result;
 	}
 
-	public void finishLaunch() {
-		if (launchContext.tryFinishLaunch()) {
-			// publish all registered unpublished specifications first
-			Iterable<? extends NodeFootprint<SpecInfo>> unpublishedSpecFootprints = launchContext.findAllUnpublishedSpecFootprints();
-			for (NodeFootprint<SpecInfo> footprint : unpublishedSpecFootprints) {
-				reportTestItemFinish(footprint);
+	private static void addSuppliedAttachments(@Nonnull List<Attachment> attachments, @Nonnull String name, @Nullable Object value) {
+		if (value == null) {
+			return;
+		}
+		if (value instanceof byte[]) {
+			attachments.add(Attachment.ofContent(name, (byte[]) value));
+		} else if (value instanceof Path) {
+			attachments.addAll(Attachment.resolve((Path) value));
+		} else if (value instanceof File) {
+			attachments.addAll(Attachment.resolve(((File) value).toPath()));
+		} else if (value instanceof CharSequence) {
+			attachments.addAll(Attachment.resolve(Paths.get(value.toString())));
+		} else if (value instanceof Iterable) {
+			((Iterable<?>) value).forEach(v -> addSuppliedAttachments(attachments, name, v));
+		} else if (value.getClass().isArray()) {
+			for (int i = 0; i < Array.getLength(value); i++) {
+				addSuppliedAttachments(attachments, name, Array.get(value, i));
 			}
+		} else {
+			LOGGER.warn("Unsupported attachment type '{}' returned by '{}' method", value.getClass().getName(), name);
+		}
+	}
 
-			// finish launch
-			FinishExecutionRQ rq = buildFinishExecutionRq();
-			launch.get().finish(rq);
-			this.launch.reset();
+	@Nullable
+	private static Method findSupplierMethod(@Nonnull Class<?> type, @Nonnull String name) {
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			try {
+				return c.getDeclaredMethod(name);
+			} catch (NoSuchMethodException ignore) {
+				// look in the parent class
+			}
 		}
+		return null;
 	}
 
-	@SuppressWarnings("rawtypes")
-	protected NodeFootprint<? extends NodeInfo> findFixtureOwner(SpecInfo spec, FeatureInfo feature, IterationInfo iteration,
-			MethodInfo fixture) {
-		MethodKind kind = fixture.getKind();
-		if (kind.isSpecScopedFixtureMethod()) {
-			return launchContext.findSpecFootprint(spec);
-		} else if (!feature.isParameterized() && !feature.isReportIterations()) {
-			return launchContext.findFeatureFootprint(feature);
-		} else {
-			return launchContext.findIterationFootprint(iteration);
+	/**
+	 * Capture attachments, declared with {@link AttachOnFailure} annotation, of a failed item. Called on the test thread
+	 * right after the failure, so supplier methods see the state of the failed test. Captured once per item, attachment
+	 * files are read only when they are sent.
+	 *
+	 * @param spec      Spock's specification
+	 * @param feature   Spock's feature, null for specification fixtures
+	 * @param iteration Spock's iteration, null for specification fixtures
+	 * @param instance  specification instance to call supplier methods on, if known
+	 */
+	protected void captureFailureAttachments(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nullable Object instance) {
+		List<AttachOnFailure> declarations = getAttachOnFailure(spec, feature);
+		Object owner = iteration != null ? iteration : feature != null ? feature : ofNullable(spec.getBottomSpec()).orElse(spec);
+		if (declarations.isEmpty() || !capturedFailures.add(owner)) {
+			return;
+		}
+		Object target = ofNullable(instance).orElseGet(() -> ofNullable(iteration).map(runningInstances::get).orElse(null));
+		List<Attachment> attachments = new ArrayList<>();
+		for (AttachOnFailure declaration : declarations) {
+			Arrays.stream(declaration.files()).forEach(file -> attachments.addAll(Attachment.resolve(Paths.get(file))));
+			if (target == null) {
+				continue;
+			}
+			for (String name : declaration.methods()) {
+				Method method = findSupplierMethod(target.getClass(), name);
+				if (method == null) {
+					LOGGER.warn("Attachment supplier method '{}' not found in '{}'", name, target.getClass().getName());
+					continue;
+				}
+				try {
+					method.setAccessible(true);
+					addSuppliedAttachments(attachments, name, method.invoke(target));
+				} catch (InvocationTargetException | IllegalAccessException | RuntimeException e) {
+					LOGGER.warn("Unable to call attachment supplier method '{}'", name, e);
+				}
+			}
+		}
+		if (!attachments.isEmpty()) {
+			dispatch(ReportingEvent.failureAttachments(spec, feature, iteration, attachments));
 		}
 	}
 
-	protected void setFeatureAttributes(@Nonnull StartTestItemRQ rq, @Nonnull FeatureInfo featureInfo) {
-		setAttributes(rq, featureInfo.getFeatureMethod().getReflection());
+	/**
+	 * Send captured failure attachments to the item of the failed iteration, feature or specification.
+	 *
+	 * @param spec        Spock's specification
+	 * @param feature     Spock's feature
+	 * @param iteration   Spock's iteration
+	 * @param attachments attachments to send
+	 */
+	protected void sendFailureAttachments(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull List<Attachment> attachments) {
+		Maybe<String> itemId = ofNullable(iteration).map(this::findItemId)
+				.orElseGet(() -> ofNullable(feature).map(this::findItemId).orElseGet(() -> findItemId(spec)));
+		if (itemId != null) {
+			attachments.forEach(attachment -> sendAttachment(itemId, attachment, LogLevel.ERROR.name()));
+		}
 	}
 
-	public void registerFeature(@Nonnull FeatureInfo feature) {
-		if (!feature.isReportIterations()) {
-			reportFeatureStart(launchContext.findSpecFootprint(feature.getSpec()).getId(), feature);
-		} else if (!feature.isSkipped()) {
-			launchContext.addRunningFeature(null, feature);
+	private boolean isStreamed(@Nonnull Attachment attachment) {
+		long threshold = spockParameters.getAttachmentsStreamThreshold();
+		if (uploader == null || attachment.getFile() == null || threshold < 0) {
+			return false;
+		}
+		try {
+			return attachment.size() >= threshold;
+		} catch (IOException e) {
+			return false;
 		}
 	}
 
-	public void publishSpecResult(@Nonnull SpecInfo spec) {
-		ReportableItemFootprint<SpecInfo> specFootprint = launchContext.findSpecFootprint(spec);
-		reportTestItemFinish(specFootprint);
+	/**
+	 * Send an attachment to an item. Files not smaller than {@link SpockParameters#getAttachmentsStreamThreshold()} are
+	 * streamed from disk with separate requests, other attachments are sent with usual batched log requests.
+	 *
+	 * @param itemId     item ID
+	 * @param attachment attachment to send
+	 * @param level      log level
+	 */
+	protected void sendAttachment(@Nonnull Maybe<String> itemId, @Nonnull Attachment attachment, @Nonnull String level) {
+		String message = "Attachment: " + attachment.getName();
+		LocalJournal localJournal = journal;
+		if (localJournal != null && isJournaled(itemId)) {
+			String path = ofNullable(attachment.getFile()).map(Path::toString).orElse(attachment.getName());
+			localJournal.log(getJournalReference(localJournal, itemId), level, "Attachment: " + path);
+			return;
+		}
+		Instant logTime = now();
+		if (isStreamed(attachment)) {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setLevel(level);
+			rq.setLogTime(logTime);
+			rq.setMessage(message);
+			uploader.upload(itemId, getLaunchUuid(), rq, attachment);
+			return;
+		}
+		launch.get().log(itemId, itemUuid -> {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setItemUuid(itemUuid);
+			rq.setLevel(level);
+			rq.setLogTime(logTime);
+			rq.setMessage(message);
+			try {
+				SaveLogRQ.File file = new SaveLogRQ.File();
+				file.setName(attachment.getName());
+				file.setContentType(attachment.getContentType());
+				file.setContent(attachment.read());
+				rq.setFile(file);
+			} catch (IOException e) {
+				LOGGER.warn("Unable to read attachment: {}", attachment.getFile(), e);
+				rq.setMessage("Unable to read attachment '" + attachment.getName() + "': " + e.getMessage());
+			}
+			return rq;
+		});
+	}
+
+	/**
+	 * Create an attachment consumer for an item, see {@link ItemAttachments}.
+	 *
+	 * @param item Spock's specification, feature or iteration
+	 * @return attachment consumer
+	 */
+	@Nonnull
+	protected Consumer<Attachment> createItemAttachments(@Nonnull Object item) {
+		return attachment -> dispatch(ReportingEvent.attachments(item, Collections.singletonList(attachment)));
+	}
+
+	private void markLogsFailed(@Nullable IterationInfo iteration) {
+		ofNullable(iteration).map(logBuffers::get).ifPresent(ItemLogBuffer::markFailed);
 	}
 
 	public void publishIterationResult(@Nonnull IterationInfo iteration) {
+		publishIterationLogs(iteration);
 		FeatureInfo feature = iteration.getFeature();
 		if (!feature.isReportIterations() && !feature.isParameterized()) {
 			return;
 		}
 		ReportableItemFootprint<IterationInfo> footprint = launchContext.findIterationFootprint(iteration);
 		reportIterationFinish(footprint);
+		if (feature.isReportIterations()) {
+			trackIterationGroup(feature, footprint.getStatus().orElse(null));
+		}
+	}
+
+	/**
+	 * Decide if a deferred fixture invocation should be reported as an item.
+	 *
+	 * @param footprint fixture footprint
+	 * @param status    fixture status
+	 * @param duration  fixture invocation duration
+	 * @return true if the fixture should be reported
+	 */
+	protected boolean isFixtureReported(@Nonnull ReportableItemFootprint<MethodInfo> footprint, @Nonnull ItemStatus status,
+			@Nonnull Duration duration) {
+		switch (getFixtureReporting()) {
+			case FAILED:
+				return FAILED == status;
+			case SLOW:
+				return FAILED == status || duration.toMillis() >= spockParameters.getFixtureSlowThreshold();
+			default:
+				return true;
+		}
+	}
+
+	@Nonnull
+	private SpockParameters.FixtureReporting getFixtureReporting() {
+		SpockParameters.FixtureReporting policy = spockParameters.getFixtureReporting();
+		return isSummaryProfile() && policy == SpockParameters.FixtureReporting.ALWAYS ? SpockParameters.FixtureReporting.FAILED : policy;
+	}
+
+	private boolean isFixtureAggregated(@Nonnull MethodInfo fixture) {
+		return spockParameters.isFixtureAggregate() && fixture.getKind().isFeatureScopedFixtureMethod();
+	}
+
+	protected void reportFixtureFinish(@Nonnull NodeFootprint<?> ownerFootprint, @Nonnull ReportableItemFootprint<MethodInfo> footprint) {
+		Maybe<String> itemId = footprint.getId();
+		DeferredItem deferred = deferredItems.remove(itemId);
+		if (deferred != null) {
+			ItemStatus status = footprint.getStatus().orElse(ItemStatus.PASSED);
+			Instant endTime = now();
+			Duration duration = Duration.between(deferred.startTime, endTime);
+			if (!isFixtureReported(footprint, status, duration)) {
+				deferred.id.onComplete();
+				footprint.markAsPublished();
+				return;
+			}
+			MethodInfo fixture = footprint.getItem();
+			if (PASSED == status && isFixtureAggregated(fixture)) {
+				Object owner = ownerFootprint.getItem();
+				FeatureInfo feature = owner instanceof IterationInfo ? ((IterationInfo) owner).getFeature() : (FeatureInfo) owner;
+				Map<MethodInfo, FixtureAggregate> aggregates = fixtureAggregates.computeIfAbsent(
+						feature,
+						f -> Collections.synchronizedMap(new LinkedHashMap<>())
+				);
+				aggregates.computeIfAbsent(fixture, f -> new FixtureAggregate(deferred.parentId, deferred.rq)).add(duration, endTime);
+				errorDescriptionMap.remove(itemId);
+				deferred.id.onComplete();
+				footprint.markAsPublished();
+				// the invocation is accounted in the aggregate, there is no need to keep its footprint
+				ownerFootprint.removeFixtureFootprint(footprint);
+				return;
+			}
+			Maybe<String> startedId = startFixture(deferred.parentId, deferred.rq);
+			deferred.startedId = startedId;
+			materializedItems.put(itemId, deferred);
+			startedId.subscribe(deferred.id);
+			finishItem(itemId, buildFinishTestItemRq(itemId, status));
+			footprint.markAsPublished();
+			return;
+		}
+		reportTestItemFinish(footprint);
 	}
 
 	@SuppressWarnings("rawtypes")
 	public void publishFixtureResult(SpecInfo spec, FeatureInfo feature, IterationInfo iteration, MethodInfo fixture) {
 		NodeFootprint<? extends NodeInfo> ownerFootprint = findFixtureOwner(spec, feature, iteration, fixture);
 		ReportableItemFootprint<MethodInfo> fixtureFootprint = ownerFootprint.findUnpublishedFixtureFootprint(fixture);
-		reportTestItemFinish(fixtureFootprint);
+		reportFixtureFinish(ownerFootprint, fixtureFootprint);
+	}
+
+	/**
+	 * Report passed invocations of per-iteration fixtures of a feature as one item per fixture method.
+	 *
+	 * @param feature Spock's feature
+	 */
+	protected void reportFixtureAggregates(@Nonnull FeatureInfo feature) {
+		Map<MethodInfo, FixtureAggregate> aggregates = fixtureAggregates.remove(feature);
+		if (aggregates == null) {
+			return;
+		}
+		synchronized (aggregates) {
+			aggregates.values().forEach(aggregate -> {
+				StartTestItemRQ startRq = aggregate.rq;
+				String summary = String.format(
+						"Invocations: %d\nDuration, ms: total %d, min %d, avg %d, max %d",
+						aggregate.count,
+						aggregate.totalDuration,
+						aggregate.minDuration,
+						aggregate.totalDuration / aggregate.count,
+						aggregate.maxDuration
+				);
+				startRq.setDescription(isNotBlank(startRq.getDescription()) ?
+						MarkdownUtils.asTwoParts(startRq.getDescription(), summary) :
+						summary);
+				Set<ItemAttributesRQ> attributes = new LinkedHashSet<>(ofNullable(startRq.getAttributes()).orElse(Collections.emptySet()));
+				attributes.add(new ItemAttributesRQ("invocations", String.valueOf(aggregate.count)));
+				startRq.setAttributes(attributes);
+				Maybe<String> itemId = startFixture(aggregate.parentId, startRq);
+				FinishTestItemRQ finishRq = buildFinishTestItemRq(itemId, PASSED);
+				finishRq.setEndTime(aggregate.endTime);
+				finishItem(itemId, finishRq);
+			});
+		}
 	}
 
 	@Override
 	public void beforeSpec(@Nonnull SpecInfo spec) {
-		registerSpec(spec);
+		ItemAttachments.bind(createItemAttachments(spec));
+		if (spockParameters.getLogsMode() == SpockParameters.LogsMode.ITEM) {
+			// specification fixtures logs
+			ItemLogBuffer buffer = createItemLogBuffer(spec);
+			logBuffers.put(spec, buffer);
+			ItemLogBuffer.bind(buffer);
+		}
+		Maybe<String> threadContext = getThreadContext();
+		dispatch(ReportingEvent.specStart(spec, enterItem(), threadContext));
 		for (MethodInfo fixture : spec.getAllFixtureMethods()) {
 			fixture.addInterceptor(new FixtureInterceptor(this));
 		}
+		for (FeatureInfo feature : spec.getAllFeatures()) {
+			if (!getAttachOnFailure(spec, feature).isEmpty()) {
+				// keep the specification instance for attachment supplier methods
+				feature.addIterationInterceptor(invocation -> {
+					IterationInfo iteration = invocation.getIteration();
+					runningInstances.put(iteration, invocation.getInstance());
+					try {
+						invocation.proceed();
+					} finally {
+						runningInstances.remove(iteration);
+					}
+				});
+			}
+		}
 	}
 
 	@Override
 	public void beforeFeature(FeatureInfo feature) {
-		registerFeature(feature);
+		Maybe<String> threadContext = getThreadContext();
+		dispatch(ReportingEvent.featureStart(feature, enterItem(), threadContext));
 	}
 
 	@Override
 	public void beforeIteration(IterationInfo iteration) {
-		registerIteration(iteration);
+		// the buffer is bound to the test thread, which runs the iteration
+		if (spockParameters.getLogsMode() == SpockParameters.LogsMode.FAILURE) {
+			ItemLogBuffer buffer = new ItemLogBuffer(spockParameters.getLogsBufferSize());
+			logBuffers.put(iteration, buffer);
+			ItemLogBuffer.bind(buffer);
+		} else if (spockParameters.getLogsMode() == SpockParameters.LogsMode.ITEM) {
+			Object item = getReportedItem(iteration);
+			ItemLogBuffer buffer = createItemLogBuffer(item);
+			logBuffers.put(item, buffer);
+			ItemLogBuffer.bind(buffer);
+		}
+		ItemAttachments.bind(createItemAttachments(getReportedItem(iteration)));
+		Maybe<String> threadContext = getThreadContext();
+		dispatch(ReportingEvent.iterationStart(iteration, enterItem(), threadContext));
 	}
 
 	@Override
 	public void afterIteration(IterationInfo iteration) {
-		publishIterationResult(iteration);
+		// return to the specification buffer, if any, for the specification fixtures
+		SpecInfo spec = iteration.getFeature().getSpec().getBottomSpec();
+		ItemLogBuffer.bind(logBuffers.get(spec));
+		ItemAttachments.bind(createItemAttachments(spec));
+		capturedFailures.remove(iteration);
+		leaveItem();
+		dispatch(ReportingEvent.iterationFinish(iteration, getThreadContext()));
 	}
 
 	@Override
 	public void afterFeature(FeatureInfo feature) {
-		publishFeatureResult(feature);
+		capturedFailures.remove(feature);
+		leaveItem();
+		dispatch(ReportingEvent.featureFinish(feature, getThreadContext()));
 	}
 
 	@Override
 	public void afterSpec(SpecInfo spec) {
-		publishSpecResult(spec);
+		ItemLogBuffer.bind(null);
+		ItemAttachments.bind(null);
+		capturedFailures.remove(spec);
+		leaveItem();
+		dispatch(ReportingEvent.specFinish(spec, getThreadContext()));
 	}
 
 	@Override
 	public void error(ErrorInfo error) {
-		reportError(error);
+		MethodInfo method = error.getMethod();
+		captureFailureAttachments(method.getParent(), method.getFeature(), method.getIteration(), null);
+		dispatch(ReportingEvent.error(error, getThreadContext()));
 	}
 
 	@Override
 	public void featureSkipped(FeatureInfo feature) {
+		dispatch(ReportingEvent.featureSkipped(feature, getThreadContext()));
+	}
+
+	protected void publishSkippedFeature(@Nonnull FeatureInfo feature) {
+		if (spockParameters.isSkippedCollapse() || isSummaryProfile()) {
+			// reported together with other skipped features of the specification at its finish
+			skippedFeatures.computeIfAbsent(getReportedSpec(feature.getSpec()), s -> new ArrayList<>()).add(feature);
+			return;
+		}
 		trackSkippedFeature(feature);
 		reportTestItemFinish(launchContext.findFeatureFootprint(feature));
 	}
 
 	@Override
 	public void specSkipped(SpecInfo spec) {
-		trackSkippedSpec(spec);
-		publishSpecResult(spec);
+		dispatch(ReportingEvent.specSkipped(spec, getThreadContext()));
+	}
+
+	/**
+	 * Fixture method start on the test thread, see {@link FixtureInterceptor}.
+	 */
+	void beforeFixture(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull MethodInfo fixture) {
+		Maybe<String> threadContext = getThreadContext();
+		dispatch(ReportingEvent.fixtureStart(spec, feature, iteration, fixture, enterItem(), threadContext));
+	}
+
+	/**
+	 * Fixture method failure on the test thread, see {@link FixtureInterceptor}.
+	 */
+	void fixtureError(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull MethodInfo fixture, @Nonnull Throwable exception) {
+		dispatch(ReportingEvent.fixtureError(spec, feature, iteration, fixture, exception, getThreadContext()));
+	}
+
+	/**
+	 * Fixture method finish on the test thread, see {@link FixtureInterceptor}.
+	 */
+	void afterFixture(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull MethodInfo fixture) {
+		leaveItem();
+		dispatch(ReportingEvent.fixtureFinish(spec, feature, iteration, fixture, getThreadContext()));
 	}
 
 	private String extractCodeRef(MethodInfo featureMethodInfo) {
-		String iterationClassName = featureMethodInfo.getReflection().getDeclaringClass().getCanonicalName();
+		String iterationClassName = SpecMetadataTable.getCodeRef(featureMethodInfo.getReflection().getDeclaringClass());
 		String iterationMethodName = featureMethodInfo.getName();
 		return iterationClassName + "." + iterationMethodName;
 	}
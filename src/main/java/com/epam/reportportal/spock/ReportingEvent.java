@@ -0,0 +1,363 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.spockframework.runtime.model.*;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable reporting event, published by a test thread and handled in the order of publishing, see
+ * {@link ReportingEventLoop}. Spock's runtime objects are carried as identity keys of the reported items, everything
+ * which is captured at the publishing time, like log entries or attachments, is copied into the event.
+ * <p>
+ * Every event carries the item context of the publishing thread: the ID of the item the thread's logs and nested steps
+ * go to. An item start event carries a new context, which the test thread uses right away and which is bound to the
+ * started item ID when the event is handled.
+ */
+final class ReportingEvent {
+
+	enum Type {
+		SPEC_START,
+		FEATURE_START,
+		ITERATION_START,
+		FIXTURE_START,
+		FIXTURE_ERROR,
+		FIXTURE_FINISH,
+		ERROR,
+		ITERATION_FINISH,
+		FEATURE_FINISH,
+		FEATURE_SKIPPED,
+		SPEC_FINISH,
+		SPEC_SKIPPED,
+		LOGS,
+		ATTACHMENTS,
+		FAILURE_ATTACHMENTS
+	}
+
+	private final Type type;
+	private final SpecInfo spec;
+	private final FeatureInfo feature;
+	private final IterationInfo iteration;
+	private final MethodInfo method;
+	private final ErrorInfo error;
+	private final Throwable exception;
+	private final Object item;
+	private final List<ItemLogBuffer.Entry> logs;
+	private final List<Attachment> attachments;
+	private final MaybeSubject<String> itemContext;
+	private final Maybe<String> threadContext;
+
+	private ReportingEvent(@Nonnull Type type, @Nullable SpecInfo spec, @Nullable FeatureInfo feature,
+			@Nullable IterationInfo iteration, @Nullable MethodInfo method, @Nullable ErrorInfo error, @Nullable Throwable exception,
+			@Nullable Object item, @Nonnull List<ItemLogBuffer.Entry> logs, @Nonnull List<Attachment> attachments,
+			@Nullable MaybeSubject<String> itemContext, @Nullable Maybe<String> threadContext) {
+		this.type = type;
+		this.spec = spec;
+		this.feature = feature;
+		this.iteration = iteration;
+		this.method = method;
+		this.error = error;
+		this.exception = exception;
+		this.item = item;
+		this.logs = logs;
+		this.attachments = attachments;
+		this.itemContext = itemContext;
+		this.threadContext = threadContext;
+	}
+
+	@Nonnull
+	private static ReportingEvent of(@Nonnull Type type, @Nullable SpecInfo spec, @Nullable FeatureInfo feature,
+			@Nullable IterationInfo iteration, @Nullable Maybe<String> threadContext) {
+		return new ReportingEvent(
+				type,
+				spec,
+				feature,
+				iteration,
+				null,
+				null,
+				null,
+				null,
+				Collections.emptyList(),
+				Collections.emptyList(),
+				null,
+				threadContext
+		);
+	}
+
+	@Nonnull
+	private static ReportingEvent start(@Nonnull Type type, @Nullable SpecInfo spec, @Nullable FeatureInfo feature,
+			@Nullable IterationInfo iteration, @Nullable MethodInfo method, @Nullable MaybeSubject<String> itemContext,
+			@Nullable Maybe<String> threadContext) {
+		return new ReportingEvent(
+				type,
+				spec,
+				feature,
+				iteration,
+				method,
+				null,
+				null,
+				null,
+				Collections.emptyList(),
+				Collections.emptyList(),
+				itemContext,
+				threadContext
+		);
+	}
+
+	@Nonnull
+	static ReportingEvent specStart(@Nonnull SpecInfo spec, @Nullable MaybeSubject<String> itemContext,
+			@Nullable Maybe<String> threadContext) {
+		return start(Type.SPEC_START, spec, null, null, null, itemContext, threadContext);
+	}
+
+	@Nonnull
+	static ReportingEvent featureStart(@Nonnull FeatureInfo feature, @Nullable MaybeSubject<String> itemContext,
+			@Nullable Maybe<String> threadContext) {
+		return start(Type.FEATURE_START, feature.getSpec(), feature, null, null, itemContext, threadContext);
+	}
+
+	@Nonnull
+	static ReportingEvent iterationStart(@Nonnull IterationInfo iteration, @Nullable MaybeSubject<String> itemContext,
+			@Nullable Maybe<String> threadContext) {
+		FeatureInfo feature = iteration.getFeature();
+		return start(Type.ITERATION_START, feature.getSpec(), feature, iteration, null, itemContext, threadContext);
+	}
+
+	@Nonnull
+	static ReportingEvent fixtureStart(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull MethodInfo fixture, @Nullable MaybeSubject<String> itemContext, @Nullable Maybe<String> threadContext) {
+		return start(Type.FIXTURE_START, spec, feature, iteration, fixture, itemContext, threadContext);
+	}
+
+	@Nonnull
+	static ReportingEvent fixtureError(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull MethodInfo fixture, @Nonnull Throwable exception, @Nullable Maybe<String> threadContext) {
+		return new ReportingEvent(
+				Type.FIXTURE_ERROR,
+				spec,
+				feature,
+				iteration,
+				fixture,
+				null,
+				exception,
+				null,
+				Collections.emptyList(),
+				Collections.emptyList(),
+				null,
+				threadContext
+		);
+	}
+
+	@Nonnull
+	static ReportingEvent fixtureFinish(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull MethodInfo fixture, @Nullable Maybe<String> threadContext) {
+		return new ReportingEvent(
+				Type.FIXTURE_FINISH,
+				spec,
+				feature,
+				iteration,
+				fixture,
+				null,
+				null,
+				null,
+				Collections.emptyList(),
+				Collections.emptyList(),
+				null,
+				threadContext
+		);
+	}
+
+	@Nonnull
+	static ReportingEvent error(@Nonnull ErrorInfo error, @Nullable Maybe<String> threadContext) {
+		return new ReportingEvent(
+				Type.ERROR,
+				null,
+				null,
+				null,
+				error.getMethod(),
+				error,
+				error.getException(),
+				null,
+				Collections.emptyList(),
+				Collections.emptyList(),
+				null,
+				threadContext
+		);
+	}
+
+	@Nonnull
+	static ReportingEvent iterationFinish(@Nonnull IterationInfo iteration, @Nullable Maybe<String> threadContext) {
+		FeatureInfo feature = iteration.getFeature();
+		return of(Type.ITERATION_FINISH, feature.getSpec(), feature, iteration, threadContext);
+	}
+
+	@Nonnull
+	static ReportingEvent featureFinish(@Nonnull FeatureInfo feature, @Nullable Maybe<String> threadContext) {
+		return of(Type.FEATURE_FINISH, feature.getSpec(), feature, null, threadContext);
+	}
+
+	@Nonnull
+	static ReportingEvent featureSkipped(@Nonnull FeatureInfo feature, @Nullable Maybe<String> threadContext) {
+		return of(Type.FEATURE_SKIPPED, feature.getSpec(), feature, null, threadContext);
+	}
+
+	@Nonnull
+	static ReportingEvent specFinish(@Nonnull SpecInfo spec, @Nullable Maybe<String> threadContext) {
+		return of(Type.SPEC_FINISH, spec, null, null, threadContext);
+	}
+
+	@Nonnull
+	static ReportingEvent specSkipped(@Nonnull SpecInfo spec, @Nullable Maybe<String> threadContext) {
+		return of(Type.SPEC_SKIPPED, spec, null, null, threadContext);
+	}
+
+	/**
+	 * @param item Spock's specification, feature or iteration the logs belong to
+	 * @param logs log entries
+	 * @return log batch event
+	 */
+	@Nonnull
+	static ReportingEvent logs(@Nonnull Object item, @Nonnull List<ItemLogBuffer.Entry> logs) {
+		return new ReportingEvent(
+				Type.LOGS,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				item,
+				List.copyOf(logs),
+				Collections.emptyList(),
+				null,
+				null
+		);
+	}
+
+	/**
+	 * @param item        Spock's specification, feature or iteration the attachments belong to
+	 * @param attachments attachments
+	 * @return attachments event
+	 */
+	@Nonnull
+	static ReportingEvent attachments(@Nonnull Object item, @Nonnull List<Attachment> attachments) {
+		return new ReportingEvent(
+				Type.ATTACHMENTS,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				item,
+				Collections.emptyList(),
+				List.copyOf(attachments),
+				null,
+				null
+		);
+	}
+
+	/**
+	 * @param spec        Spock's specification
+	 * @param feature     Spock's feature
+	 * @param iteration   Spock's iteration
+	 * @param attachments attachments captured on a failure
+	 * @return failure attachments event
+	 */
+	@Nonnull
+	static ReportingEvent failureAttachments(@Nonnull SpecInfo spec, @Nullable FeatureInfo feature, @Nullable IterationInfo iteration,
+			@Nonnull List<Attachment> attachments) {
+		return new ReportingEvent(
+				Type.FAILURE_ATTACHMENTS,
+				spec,
+				feature,
+				iteration,
+				null,
+				null,
+				null,
+				null,
+				Collections.emptyList(),
+				List.copyOf(attachments),
+				null,
+				null
+		);
+	}
+
+	@Nonnull
+	Type getType() {
+		return type;
+	}
+
+	SpecInfo getSpec() {
+		return spec;
+	}
+
+	FeatureInfo getFeature() {
+		return feature;
+	}
+
+	IterationInfo getIteration() {
+		return iteration;
+	}
+
+	MethodInfo getMethod() {
+		return method;
+	}
+
+	ErrorInfo getError() {
+		return error;
+	}
+
+	Throwable getException() {
+		return exception;
+	}
+
+	Object getItem() {
+		return item;
+	}
+
+	@Nonnull
+	List<ItemLogBuffer.Entry> getLogs() {
+		return logs;
+	}
+
+	@Nonnull
+	List<Attachment> getAttachments() {
+		return attachments;
+	}
+
+	/**
+	 * @return context of the item started by the event, null for other events
+	 */
+	@Nullable
+	MaybeSubject<String> getItemContext() {
+		return itemContext;
+	}
+
+	/**
+	 * @return item context of the publishing thread at the publishing time
+	 */
+	@Nullable
+	Maybe<String> getThreadContext() {
+		return threadContext;
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Single-writer reporting loop. Test threads publish small immutable events into a bounded lock-free ring buffer, one
+ * dedicated daemon thread passes them to the event handler in the order of publishing. Every event is stamped with the
+ * time of its publishing, which is available to the handler via {@link #now()}, so the reported item times don't depend
+ * on the loop lag.
+ * <p>
+ * The ring buffer is a multi-producer single-consumer variation of a sequence-based bounded queue: each slot has a
+ * sequence number which tells producers and the consumer whose turn it is to use the slot. If the buffer is full
+ * producers wait for a free slot, which throttles test threads when reporting can't keep up.
+ */
+class ReportingEventLoop<E> {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportingEventLoop.class);
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+	private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+	private static final class Slot<E> {
+		private final Instant time;
+		private final E event;
+		// flush barrier, null for regular events
+		private final CountDownLatch barrier;
+
+		private Slot(@Nonnull Instant time, E event, CountDownLatch barrier) {
+			this.time = time;
+			this.event = event;
+			this.barrier = barrier;
+		}
+	}
+
+	private final Consumer<? super E> handler;
+
+	private final int mask;
+	private final Object[] buffer;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	// read and written by the consumer thread only
+	private long head;
+
+	private final Thread reporter;
+	private volatile Instant eventTime;
+	private volatile boolean running = true;
+	// set by the reporter thread when it leaves the loop, after that publishers take over the consumer role
+	private volatile boolean stopped;
+	private final Object consumerLock = new Object();
+
+	/**
+	 * @param capacity ring buffer capacity, rounded up to the nearest power of two
+	 * @param handler  event handler, called on the reporter thread
+	 */
+	ReportingEventLoop(int capacity, @Nonnull Consumer<? super E> handler) {
+		this.handler = handler;
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		mask = size - 1;
+		buffer = new Object[size];
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+		reporter = new Thread(this::run, "rp-spock-reporter");
+		reporter.setDaemon(true);
+		reporter.start();
+	}
+
+	/**
+	 * Publish an event to handle on the reporter thread.
+	 *
+	 * @param event reporting event
+	 */
+	void publish(@Nonnull E event) {
+		if (!running || Thread.currentThread() == reporter) {
+			// an event published by the handler or after the loop stop is handled in place to keep the order
+			handler.accept(event);
+			return;
+		}
+		offer(new Slot<>(Instant.now(), event, null));
+		if (stopped) {
+			// the loop was stopped while the event was published, the reporter thread may have missed it
+			drainStopped();
+		}
+	}
+
+	private void offer(@Nonnull Slot<E> slot) {
+		long position = tail.get();
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					buffer[index] = slot;
+					sequences.set(index, position + 1);
+					return;
+				}
+				position = tail.get();
+			} else if (difference < 0) {
+				// the buffer is full, wait for the consumer, or free it in place if the reporter thread is gone
+				if (stopped) {
+					drainStopped();
+				} else {
+					LockSupport.parkNanos(FULL_PARK_NANOS);
+				}
+				position = tail.get();
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Slot<E> poll() {
+		int index = (int) head & mask;
+		if (sequences.get(index) != head + 1) {
+			return null;
+		}
+		Slot<E> slot = (Slot<E>) buffer[index];
+		buffer[index] = null;
+		sequences.set(index, head + mask + 1);
+		head++;
+		return slot;
+	}
+
+	private void handle(@Nonnull Slot<E> slot) {
+		if (slot.barrier != null) {
+			slot.barrier.countDown();
+			return;
+		}
+		eventTime = slot.time;
+		try {
+			handler.accept(slot.event);
+		} catch (Throwable e) {
+			LOGGER.error("Unable to process reporting event", e);
+		} finally {
+			eventTime = null;
+		}
+	}
+
+	private void run() {
+		while (running || tail.get() != head) {
+			Slot<E> slot;
+			synchronized (consumerLock) {
+				slot = poll();
+			}
+			if (slot == null) {
+				LockSupport.parkNanos(IDLE_PARK_NANOS);
+				continue;
+			}
+			handle(slot);
+		}
+		// events published between the last check and the flag are drained here or by their publishers
+		stopped = true;
+		drainStopped();
+	}
+
+	/**
+	 * Handle events left in the buffer after the reporter thread has left the loop, on the calling thread.
+	 */
+	private void drainStopped() {
+		synchronized (consumerLock) {
+			Slot<E> slot;
+			while ((slot = poll()) != null) {
+				handle(slot);
+			}
+		}
+	}
+
+	/**
+	 * @return publishing time of the currently executed event if called from the reporter thread, current time otherwise
+	 */
+	@Nonnull
+	Instant now() {
+		Instant time = eventTime;
+		return time != null && Thread.currentThread() == reporter ? time : Instant.now();
+	}
+
+	/**
+	 * Wait until all events published before the call are executed.
+	 */
+	void flush() {
+		if (!running || stopped || Thread.currentThread() == reporter || !reporter.isAlive()) {
+			return;
+		}
+		CountDownLatch latch = new CountDownLatch(1);
+		offer(new Slot<>(Instant.now(), null, latch));
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Execute all published events and stop the reporter thread.
+	 */
+	void shutdown() {
+		flush();
+		running = false;
+		try {
+			reporter.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Watches ReportPortal server responses and decides if the server is healthy. Every error response and every response
+ * which takes longer than the configured latency threshold is counted as a failure, a timely successful response resets
+ * the counter. Once the number of consecutive failures reaches the threshold the server is considered unhealthy and
+ * the callback is notified, only once.
+ */
+class ReportingHealthMonitor {
+
+	private final int maxErrors;
+	private final long maxLatency;
+	private final Consumer<String> onUnhealthy;
+
+	private final AtomicInteger consecutiveErrors = new AtomicInteger();
+	private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+	/**
+	 * @param maxErrors   number of consecutive failures to consider server unhealthy
+	 * @param maxLatency  maximum response time in milliseconds
+	 * @param onUnhealthy callback which receives the reason of the state change
+	 */
+	ReportingHealthMonitor(int maxErrors, long maxLatency, @Nonnull Consumer<String> onUnhealthy) {
+		this.maxErrors = Math.max(1, maxErrors);
+		this.maxLatency = maxLatency;
+		this.onUnhealthy = onUnhealthy;
+	}
+
+	boolean isHealthy() {
+		return healthy.get();
+	}
+
+	long getMaxLatency() {
+		return maxLatency;
+	}
+
+	/**
+	 * Subscribe on server response and account its result.
+	 *
+	 * @param response server response
+	 */
+	void track(@Nonnull Maybe<?> response) {
+		if (!isHealthy()) {
+			return;
+		}
+		//noinspection ResultOfMethodCallIgnored
+		response.timeout(maxLatency, TimeUnit.MILLISECONDS)
+				.subscribe(r -> consecutiveErrors.set(0), e -> registerError(e.toString()), () -> {
+				});
+	}
+
+	/**
+	 * Subscribe on a server response which is essential for reporting, like launch start. Any error of such response
+	 * makes the server unhealthy immediately.
+	 *
+	 * @param response server response
+	 */
+	void trackCritical(@Nonnull Maybe<?> response) {
+		if (!isHealthy()) {
+			return;
+		}
+		//noinspection ResultOfMethodCallIgnored
+		response.subscribe(r -> consecutiveErrors.set(0), e -> markUnhealthy(e.toString()), () -> {
+		});
+	}
+
+	/**
+	 * Account a failed server call.
+	 *
+	 * @param reason failure description
+	 */
+	void registerError(@Nonnull String reason) {
+		if (consecutiveErrors.incrementAndGet() >= maxErrors) {
+			markUnhealthy(reason);
+		}
+	}
+
+	/**
+	 * Consider the server unhealthy immediately.
+	 *
+	 * @param reason failure description
+	 */
+	void markUnhealthy(@Nonnull String reason) {
+		if (healthy.compareAndSet(true, false)) {
+			onUnhealthy.accept(reason);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Static parts of item start requests: names, item types, descriptions, code references, test case IDs and attributes.
+ * Templates are built once per item and reused, runtime callbacks only copy them and add the start time and the launch
+ * UUID. Optionally they are precomputed on a small daemon pool while Spock visits specifications, a template which is
+ * not prepared yet is built on the calling thread. Templates of a specification are removed when it's finished.
+ */
+class RequestTemplates {
+	private static final Logger LOGGER = LoggerFactory.getLogger(RequestTemplates.class);
+
+	private final Map<Object, StartTestItemRQ> templates = new ConcurrentHashMap<>();
+	private final ExecutorService pool;
+
+	/**
+	 * @param threads number of preparation threads, zero or negative value means templates are built on demand only
+	 */
+	RequestTemplates(int threads) {
+		if (threads <= 0) {
+			pool = null;
+			return;
+		}
+		AtomicInteger counter = new AtomicInteger();
+		pool = Executors.newFixedThreadPool(
+				threads, r -> {
+					Thread thread = new Thread(r, "rp-spock-templates-" + counter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+	}
+
+	/**
+	 * Schedule a preparation task on the pool.
+	 *
+	 * @param task preparation task, which usually calls {@link #get(Object, Supplier)} for the items it knows about
+	 */
+	void prepare(@Nonnull Runnable task) {
+		if (pool == null) {
+			return;
+		}
+		try {
+			pool.execute(() -> {
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					// the templates will be built on demand
+					LOGGER.warn("Unable to prepare item request templates", e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			LOGGER.debug("Request templates pool is stopped", e);
+		}
+	}
+
+	/**
+	 * Get a template, building it if it's not prepared yet.
+	 *
+	 * @param key     template key, usually Spock's node info
+	 * @param builder template builder
+	 * @return the template, must not be modified
+	 */
+	@Nonnull
+	StartTestItemRQ get(@Nonnull Object key, @Nonnull Supplier<StartTestItemRQ> builder) {
+		return templates.computeIfAbsent(key, k -> builder.get());
+	}
+
+	/**
+	 * Remove templates which are not needed anymore.
+	 *
+	 * @param keys template keys
+	 */
+	void remove(@Nonnull Collection<?> keys) {
+		templates.keySet().removeAll(keys);
+	}
+
+	/**
+	 * @return number of stored templates
+	 */
+	int size() {
+		return templates.size();
+	}
+
+	/**
+	 * Copy the static request parts from a template to a request. Attributes are copied deeply, so the request can be
+	 * modified freely.
+	 *
+	 * @param template request template
+	 * @param rq       target request
+	 * @return the target request
+	 */
+	@Nonnull
+	static StartTestItemRQ apply(@Nonnull StartTestItemRQ template, @Nonnull StartTestItemRQ rq) {
+		rq.setDescription(template.getDescription());
+		rq.setCodeRef(template.getCodeRef());
+		rq.setTestCaseId(template.getTestCaseId());
+		rq.setAttributes(copyAttributes(template));
+		return rq;
+	}
+
+	@Nullable
+	private static Set<ItemAttributesRQ> copyAttributes(@Nonnull StartTestItemRQ template) {
+		return ofNullable(template.getAttributes()).map(attributes -> attributes.stream()
+				.map(a -> new ItemAttributesRQ(a.getKey(), a.getValue(), a.isSystem()))
+				.collect(Collectors.toCollection(LinkedHashSet::new))).orElse(null);
+	}
+
+	/**
+	 * Stop the preparation pool, not started tasks and stored templates are discarded.
+	 */
+	void shutdown() {
+		ofNullable(pool).ifPresent(ExecutorService::shutdownNow);
+		templates.clear();
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.spock.annotations.SpecMetadata;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+import org.spockframework.runtime.model.MethodInfo;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-class cache of {@link SpecMetadata}, generated by {@link MetadataTransformation}. Each class is looked up once,
+ * classes compiled without the transformation have no metadata and are handled with reflection, as well as annotation
+ * values which were not resolved at compile time.
+ */
+final class SpecMetadataTable {
+
+	private static final class Entry {
+		private final SpecMetadata spec;
+		private final Map<String, SpecMetadata.Feature> features;
+		private final Map<String, SpecMetadata.Feature> methods;
+
+		private Entry(SpecMetadata spec) {
+			this.spec = spec;
+			this.features = spec == null ?
+					Collections.emptyMap() :
+					Arrays.stream(spec.features()).collect(Collectors.toMap(SpecMetadata.Feature::name, Function.identity(), (a, b) -> a));
+			this.methods = spec == null ?
+					Collections.emptyMap() :
+					Arrays.stream(spec.features())
+							.filter(f -> !f.method().isEmpty())
+							.collect(Collectors.toMap(SpecMetadata.Feature::method, Function.identity(), (a, b) -> a));
+		}
+	}
+
+	private static final ClassValue<Entry> ENTRIES = new ClassValue<>() {
+		@Override
+		protected Entry computeValue(Class<?> type) {
+			return new Entry(type.getAnnotation(SpecMetadata.class));
+		}
+	};
+
+	private SpecMetadataTable() {
+	}
+
+	/**
+	 * @param type specification class
+	 * @return metadata of the class, if it was compiled with {@link MetadataTransformation}
+	 */
+	@Nonnull
+	static Optional<SpecMetadata> getSpec(@Nonnull Class<?> type) {
+		return Optional.ofNullable(ENTRIES.get(type).spec);
+	}
+
+	/**
+	 * @param featureMethod Spock's feature method
+	 * @return metadata of the feature, if its class was compiled with {@link MetadataTransformation}
+	 */
+	@Nonnull
+	static Optional<SpecMetadata.Feature> getFeature(@Nonnull MethodInfo featureMethod) {
+		return Optional.ofNullable(ENTRIES.get(featureMethod.getReflection().getDeclaringClass()).features.get(featureMethod.getName()));
+	}
+
+	/**
+	 * @param type specification class
+	 * @return canonical name of the class
+	 */
+	@Nonnull
+	static String getCodeRef(@Nonnull Class<?> type) {
+		return getSpec(type).map(SpecMetadata::codeRef).orElseGet(type::getCanonicalName);
+	}
+
+	/**
+	 * @param type specification class
+	 * @return false if the class is known to have no attributes annotation, true if it has or the metadata is absent
+	 */
+	static boolean mayHaveAttributes(@Nonnull Class<?> type) {
+		return getSpec(type).map(SpecMetadata::attributes).orElse(Boolean.TRUE);
+	}
+
+	/**
+	 * @param featureMethod Spock's feature method
+	 * @return false if the feature method is known to have no attributes annotation, true if it has or the metadata is
+	 * absent
+	 */
+	static boolean mayHaveAttributes(@Nonnull MethodInfo featureMethod) {
+		return getFeature(featureMethod).map(SpecMetadata.Feature::attributes).orElse(Boolean.TRUE);
+	}
+
+	/**
+	 * @param methodOrClass specification class or feature method
+	 * @return attributes of the class or the method, if they were resolved at compile time
+	 */
+	@Nonnull
+	static Optional<Set<ItemAttributesRQ>> getAttributes(@Nonnull AnnotatedElement methodOrClass) {
+		if (methodOrClass instanceof Class) {
+			return getSpec((Class<?>) methodOrClass).filter(SpecMetadata::attributesResolved)
+					.map(spec -> toAttributes(spec.attributeValues()));
+		}
+		if (methodOrClass instanceof Method) {
+			Method method = (Method) methodOrClass;
+			return Optional.ofNullable(ENTRIES.get(method.getDeclaringClass()).methods.get(method.getName()))
+					.filter(SpecMetadata.Feature::attributesResolved)
+					.map(feature -> toAttributes(feature.attributeValues()));
+		}
+		return Optional.empty();
+	}
+
+	@Nonnull
+	private static Set<ItemAttributesRQ> toAttributes(@Nonnull SpecMetadata.Attribute[] attributes) {
+		return Arrays.stream(attributes)
+				.map(a -> new ItemAttributesRQ(a.nullKey() ? null : a.key(), a.value()))
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * @param featureMethod Spock's feature method
+	 * @return test case ID of the feature method, if it has a not parametrized value known at compile time
+	 */
+	@Nonnull
+	static Optional<String> getTestCaseId(@Nonnull MethodInfo featureMethod) {
+		return getFeature(featureMethod).map(SpecMetadata.Feature::testCaseIdValue).filter(id -> !id.isEmpty());
+	}
+
+	/**
+	 * @param featureMethod Spock's feature method
+	 * @return false if the feature method is known to have no test case ID annotation, true if it has or the metadata is
+	 * absent
+	 */
+	static boolean mayHaveTestCaseId(@Nonnull MethodInfo featureMethod) {
+		return getFeature(featureMethod).map(SpecMetadata.Feature::testCaseId).orElse(Boolean.TRUE);
+	}
+}
@@ -0,0 +1,671 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Spock agent specific settings, which are not covered by the common
+ * {@link com.epam.reportportal.listeners.ListenerParameters}. The values are read from the same sources as the common
+ * ones: <code>reportportal.properties</code> file, JVM system properties and environment variables.
+ */
+public class SpockParameters {
+	private static final Logger LOGGER = LoggerFactory.getLogger(SpockParameters.class);
+
+	/**
+	 * Reporting profile, defines which test elements are reported as items
+	 */
+	public enum Profile {
+		/**
+		 * Every specification, feature, iteration and fixture
+		 */
+		FULL,
+		/**
+		 * Specifications with aggregated statistics and only failed features, iterations and fixtures
+		 */
+		SUMMARY
+	}
+
+	/**
+	 * How item logs are reported: logs sent through the ReportPortal client and logs put to {@link ItemLogBuffer}
+	 */
+	public enum LogsMode {
+		/**
+		 * Logs are not buffered and sent as usual
+		 */
+		DIRECT,
+		/**
+		 * Logs of an iteration are buffered and sent only if the iteration fails
+		 */
+		FAILURE,
+		/**
+		 * Logs of an item are buffered and sent as one batch right before the item finish, or earlier if the buffer
+		 * reaches its size or time limit
+		 */
+		ITEM
+	}
+
+	/**
+	 * Which iterations of parameterized features without <code>@Unroll</code> are reported as nested items
+	 */
+	public enum NestedIterations {
+		/**
+		 * Every iteration
+		 */
+		ALL,
+		/**
+		 * Only failed iterations, the rest are reported as aggregated counts on the feature item
+		 */
+		FAILED,
+		/**
+		 * Failed iterations and every N-th iteration, the rest are reported as aggregated counts on the feature item
+		 */
+		SAMPLED
+	}
+
+	/**
+	 * Which fixture (setup and cleanup methods) invocations are reported as items
+	 */
+	public enum FixtureReporting {
+		/**
+		 * Every invocation
+		 */
+		ALWAYS,
+		/**
+		 * Only failed invocations
+		 */
+		FAILED,
+		/**
+		 * Failed invocations and invocations which took longer than the configured threshold
+		 */
+		SLOW
+	}
+
+	public static final String FAIL_OPEN = "rp.spock.fail.open";
+	public static final String HEALTH_MAX_ERRORS = "rp.spock.health.errors";
+	public static final String HEALTH_MAX_LATENCY = "rp.spock.health.latency";
+	public static final String WORK_DIR = "rp.spock.work.dir";
+	public static final String IN_FLIGHT_MAX = "rp.spock.inflight.max";
+	public static final String IN_FLIGHT_POLICY = "rp.spock.inflight.policy";
+	public static final String IN_FLIGHT_SPILL_MAX = "rp.spock.inflight.spill.max";
+	public static final String ASYNC = "rp.spock.async";
+	public static final String ASYNC_BUFFER_SIZE = "rp.spock.async.buffer";
+	public static final String NESTED_ITERATIONS = "rp.spock.iterations.nested";
+	public static final String NESTED_ITERATIONS_SAMPLE_RATE = "rp.spock.iterations.sample";
+	public static final String NESTED_ITERATIONS_DEFERRED = "rp.spock.iterations.deferred";
+	public static final String FIXTURE_REPORTING = "rp.spock.fixtures";
+	public static final String FIXTURE_SLOW_THRESHOLD = "rp.spock.fixtures.slow";
+	public static final String FIXTURE_AGGREGATE = "rp.spock.fixtures.aggregate";
+	public static final String ITERATION_GROUP_SIZE = "rp.spock.iterations.group";
+	public static final String PROFILE = "rp.spock.profile";
+	public static final String SKIPPED_COLLAPSE = "rp.spock.skipped.collapse";
+	public static final String LOGS_MODE = "rp.spock.logs.mode";
+	public static final String LOGS_BUFFER_SIZE = "rp.spock.logs.buffer";
+	public static final String LOGS_FLUSH_TIME = "rp.spock.logs.flush.time";
+	public static final String ATTACHMENTS_STREAM_THRESHOLD = "rp.spock.attachments.stream";
+	public static final String ATTACHMENTS_TIMEOUT = "rp.spock.attachments.timeout";
+	public static final String NATIVE_STEPS = "rp.spock.steps.native";
+	public static final String BACKGROUND_START = "rp.spock.launch.background";
+	public static final String TEMPLATES_THREADS = "rp.spock.templates.threads";
+	public static final String LAUNCH_SHARED = "rp.spock.launch.shared";
+	public static final String LAUNCH_SHARED_LINGER = "rp.spock.launch.shared.linger";
+	public static final String LAUNCH_ROLLOVER_ITEMS = "rp.spock.launch.rollover.items";
+	public static final String LAUNCH_ROLLOVER_TIME = "rp.spock.launch.rollover.time";
+	public static final String DRAIN_THREADS = "rp.spock.drain.threads";
+	public static final String DRAIN_TIMEOUT = "rp.spock.drain.timeout";
+	public static final String DRAIN_PROGRESS = "rp.spock.drain.progress";
+	public static final String SHUTDOWN_HOOK = "rp.spock.shutdown.hook";
+	public static final String SHUTDOWN_TIMEOUT = "rp.spock.shutdown.timeout";
+
+	private boolean failOpen = false;
+	private int healthMaxErrors = 3;
+	private long healthMaxLatency = 5000L;
+	private String workDir = "build/reportportal";
+	private int inFlightMax = 0;
+	private InFlightWindow.Policy inFlightPolicy = InFlightWindow.Policy.BLOCK;
+	private int inFlightSpillMax = 1000;
+	private boolean async = false;
+	private int asyncBufferSize = 8192;
+	private NestedIterations nestedIterations = NestedIterations.ALL;
+	private int nestedIterationsSampleRate = 100;
+	private boolean nestedIterationsDeferred = false;
+	private FixtureReporting fixtureReporting = FixtureReporting.ALWAYS;
+	private long fixtureSlowThreshold = 1000L;
+	private boolean fixtureAggregate = false;
+	private int iterationGroupSize = 0;
+	private Profile profile = Profile.FULL;
+	private boolean skippedCollapse = false;
+	private LogsMode logsMode = LogsMode.DIRECT;
+	private int logsBufferSize = 1000;
+	private long logsFlushTime = 10000;
+	private long attachmentsStreamThreshold = 1024 * 1024;
+	private long attachmentsTimeout = 300000;
+	private boolean nativeSteps = false;
+	private boolean backgroundStart = false;
+	private int templatesThreads = 0;
+	private boolean launchShared = false;
+	private long launchSharedLinger = 5000;
+	private long launchRolloverItems = 0;
+	private long launchRolloverTime = 0;
+	private int drainThreads = 1;
+	private long drainTimeout = 0;
+	private long drainProgress = 10000;
+	private boolean shutdownHook = false;
+	private long shutdownTimeout = 5000;
+
+	public SpockParameters() {
+	}
+
+	public SpockParameters(@Nonnull PropertiesLoader properties) {
+		failOpen = toBoolean(properties.getProperty(FAIL_OPEN), failOpen);
+		healthMaxErrors = toInt(properties, HEALTH_MAX_ERRORS, healthMaxErrors);
+		healthMaxLatency = toLong(properties, HEALTH_MAX_LATENCY, healthMaxLatency);
+		workDir = ofNullable(properties.getProperty(WORK_DIR)).filter(StringUtils::isNotBlank).orElse(workDir);
+		inFlightMax = toInt(properties, IN_FLIGHT_MAX, inFlightMax);
+		inFlightPolicy = toEnum(properties, IN_FLIGHT_POLICY, InFlightWindow.Policy.class, inFlightPolicy);
+		inFlightSpillMax = toInt(properties, IN_FLIGHT_SPILL_MAX, inFlightSpillMax);
+		async = toBoolean(properties.getProperty(ASYNC), async);
+		asyncBufferSize = toInt(properties, ASYNC_BUFFER_SIZE, asyncBufferSize);
+		nestedIterations = toEnum(properties, NESTED_ITERATIONS, NestedIterations.class, nestedIterations);
+		nestedIterationsSampleRate = toInt(properties, NESTED_ITERATIONS_SAMPLE_RATE, nestedIterationsSampleRate);
+		nestedIterationsDeferred = toBoolean(properties.getProperty(NESTED_ITERATIONS_DEFERRED), nestedIterationsDeferred);
+		fixtureReporting = toEnum(properties, FIXTURE_REPORTING, FixtureReporting.class, fixtureReporting);
+		fixtureSlowThreshold = toLong(properties, FIXTURE_SLOW_THRESHOLD, fixtureSlowThreshold);
+		fixtureAggregate = toBoolean(properties.getProperty(FIXTURE_AGGREGATE), fixtureAggregate);
+		iterationGroupSize = toInt(properties, ITERATION_GROUP_SIZE, iterationGroupSize);
+		profile = toEnum(properties, PROFILE, Profile.class, profile);
+		skippedCollapse = toBoolean(properties.getProperty(SKIPPED_COLLAPSE), skippedCollapse);
+		logsMode = toEnum(properties, LOGS_MODE, LogsMode.class, logsMode);
+		logsBufferSize = toInt(properties, LOGS_BUFFER_SIZE, logsBufferSize);
+		logsFlushTime = toLong(properties, LOGS_FLUSH_TIME, logsFlushTime);
+		attachmentsStreamThreshold = toLong(properties, ATTACHMENTS_STREAM_THRESHOLD, attachmentsStreamThreshold);
+		attachmentsTimeout = toLong(properties, ATTACHMENTS_TIMEOUT, attachmentsTimeout);
+		nativeSteps = toBoolean(properties.getProperty(NATIVE_STEPS), nativeSteps);
+		backgroundStart = toBoolean(properties.getProperty(BACKGROUND_START), backgroundStart);
+		templatesThreads = toInt(properties, TEMPLATES_THREADS, templatesThreads);
+		launchShared = toBoolean(properties.getProperty(LAUNCH_SHARED), launchShared);
+		launchSharedLinger = toLong(properties, LAUNCH_SHARED_LINGER, launchSharedLinger);
+		launchRolloverItems = toLong(properties, LAUNCH_ROLLOVER_ITEMS, launchRolloverItems);
+		launchRolloverTime = toLong(properties, LAUNCH_ROLLOVER_TIME, launchRolloverTime);
+		drainThreads = toInt(properties, DRAIN_THREADS, drainThreads);
+		drainTimeout = toLong(properties, DRAIN_TIMEOUT, drainTimeout);
+		drainProgress = toLong(properties, DRAIN_PROGRESS, drainProgress);
+		shutdownHook = toBoolean(properties.getProperty(SHUTDOWN_HOOK), shutdownHook);
+		shutdownTimeout = toLong(properties, SHUTDOWN_TIMEOUT, shutdownTimeout);
+	}
+
+	private static <T extends Enum<T>> T toEnum(@Nonnull PropertiesLoader properties, @Nonnull String name, @Nonnull Class<T> type,
+			@Nonnull T defaultValue) {
+		String value = properties.getProperty(name);
+		if (StringUtils.isBlank(value)) {
+			return defaultValue;
+		}
+		try {
+			return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			LOGGER.warn("Unable to parse '{}' property value: '{}', using default one: {}", name, value, defaultValue);
+			return defaultValue;
+		}
+	}
+
+	private static boolean toBoolean(@Nullable String value, boolean defaultValue) {
+		return StringUtils.isBlank(value) ? defaultValue : Boolean.parseBoolean(value.trim());
+	}
+
+	private static long toLong(@Nonnull PropertiesLoader properties, @Nonnull String name, long defaultValue) {
+		String value = properties.getProperty(name);
+		if (StringUtils.isBlank(value)) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			LOGGER.warn("Unable to parse '{}' property value: '{}', using default one: {}", name, value, defaultValue);
+			return defaultValue;
+		}
+	}
+
+	private static int toInt(@Nonnull PropertiesLoader properties, @Nonnull String name, int defaultValue) {
+		return (int) toLong(properties, name, defaultValue);
+	}
+
+	/**
+	 * @return true if the agent should switch to the local journal when ReportPortal server is unreachable or too slow
+	 */
+	public boolean isFailOpen() {
+		return failOpen;
+	}
+
+	public void setFailOpen(boolean failOpen) {
+		this.failOpen = failOpen;
+	}
+
+	/**
+	 * @return number of consecutive failed or too slow server responses after which the server is considered unhealthy
+	 */
+	public int getHealthMaxErrors() {
+		return healthMaxErrors;
+	}
+
+	public void setHealthMaxErrors(int healthMaxErrors) {
+		this.healthMaxErrors = healthMaxErrors;
+	}
+
+	/**
+	 * @return maximum server response time in milliseconds, slower responses are counted as errors
+	 */
+	public long getHealthMaxLatency() {
+		return healthMaxLatency;
+	}
+
+	public void setHealthMaxLatency(long healthMaxLatency) {
+		this.healthMaxLatency = healthMaxLatency;
+	}
+
+	/**
+	 * @return directory for the agent's local files: journals, caches, etc.
+	 */
+	@Nonnull
+	public Path getWorkDir() {
+		return Paths.get(workDir);
+	}
+
+	public void setWorkDir(@Nonnull String workDir) {
+		this.workDir = workDir;
+	}
+
+	/**
+	 * @return maximum number of unanswered item requests, 0 means no limit. The priority lane of failed item finishes,
+	 * see {@link InFlightWindow}, needs a limit: without it no request waits and there is nothing to reorder. Logs are
+	 * not limited by the window
+	 */
+	public int getInFlightMax() {
+		return inFlightMax;
+	}
+
+	public void setInFlightMax(int inFlightMax) {
+		this.inFlightMax = inFlightMax;
+	}
+
+	/**
+	 * @return what to do with a new item request when the in-flight window is full
+	 */
+	@Nonnull
+	public InFlightWindow.Policy getInFlightPolicy() {
+		return inFlightPolicy;
+	}
+
+	public void setInFlightPolicy(@Nonnull InFlightWindow.Policy inFlightPolicy) {
+		this.inFlightPolicy = inFlightPolicy;
+	}
+
+	/**
+	 * @return maximum number of item starts queued in memory with the {@link InFlightWindow.Policy#SPILL} policy. When the
+	 * queue is full, items without own statistics are skipped and other items wait until the queue is sent
+	 */
+	public int getInFlightSpillMax() {
+		return inFlightSpillMax;
+	}
+
+	public void setInFlightSpillMax(int inFlightSpillMax) {
+		this.inFlightSpillMax = inFlightSpillMax;
+	}
+
+	/**
+	 * @return true if Spock callbacks should be processed asynchronously on a dedicated reporter thread
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	/**
+	 * @return capacity of the asynchronous reporting events buffer
+	 */
+	public int getAsyncBufferSize() {
+		return asyncBufferSize;
+	}
+
+	public void setAsyncBufferSize(int asyncBufferSize) {
+		this.asyncBufferSize = asyncBufferSize;
+	}
+
+	/**
+	 * @return which iterations of parameterized features without <code>@Unroll</code> are reported as nested items
+	 */
+	@Nonnull
+	public NestedIterations getNestedIterations() {
+		return nestedIterations;
+	}
+
+	public void setNestedIterations(@Nonnull NestedIterations nestedIterations) {
+		this.nestedIterations = nestedIterations;
+	}
+
+	/**
+	 * @return every which iteration is reported in {@link NestedIterations#SAMPLED} mode
+	 */
+	public int getNestedIterationsSampleRate() {
+		return nestedIterationsSampleRate;
+	}
+
+	public void setNestedIterationsSampleRate(int nestedIterationsSampleRate) {
+		this.nestedIterationsSampleRate = nestedIterationsSampleRate;
+	}
+
+	/**
+	 * @return true if nested iteration start requests should be held until the iteration result is known and sent
+	 * together with the finish requests, always true for {@link NestedIterations#FAILED} and
+	 * {@link NestedIterations#SAMPLED} modes. Logs and nested steps of a deferred iteration wait for its start and are
+	 * dropped together with it if the iteration is not reported
+	 */
+	public boolean isNestedIterationsDeferred() {
+		return nestedIterationsDeferred || nestedIterations != NestedIterations.ALL;
+	}
+
+	public void setNestedIterationsDeferred(boolean nestedIterationsDeferred) {
+		this.nestedIterationsDeferred = nestedIterationsDeferred;
+	}
+
+	/**
+	 * @return which fixture invocations are reported as items
+	 */
+	@Nonnull
+	public FixtureReporting getFixtureReporting() {
+		return fixtureReporting;
+	}
+
+	public void setFixtureReporting(@Nonnull FixtureReporting fixtureReporting) {
+		this.fixtureReporting = fixtureReporting;
+	}
+
+	/**
+	 * @return minimal duration in milliseconds of a fixture invocation reported in {@link FixtureReporting#SLOW} mode
+	 */
+	public long getFixtureSlowThreshold() {
+		return fixtureSlowThreshold;
+	}
+
+	public void setFixtureSlowThreshold(long fixtureSlowThreshold) {
+		this.fixtureSlowThreshold = fixtureSlowThreshold;
+	}
+
+	/**
+	 * @return true if passed invocations of the same per-iteration fixture within a feature should be reported as one item
+	 */
+	public boolean isFixtureAggregate() {
+		return fixtureAggregate;
+	}
+
+	public void setFixtureAggregate(boolean fixtureAggregate) {
+		this.fixtureAggregate = fixtureAggregate;
+	}
+
+	/**
+	 * @return number of iterations of an unrolled feature grouped under one intermediate item, 0 means no grouping
+	 */
+	public int getIterationGroupSize() {
+		return iterationGroupSize;
+	}
+
+	public void setIterationGroupSize(int iterationGroupSize) {
+		this.iterationGroupSize = iterationGroupSize;
+	}
+
+	/**
+	 * @return reporting profile
+	 */
+	@Nonnull
+	public Profile getProfile() {
+		return profile;
+	}
+
+	public void setProfile(@Nonnull Profile profile) {
+		this.profile = profile;
+	}
+
+	/**
+	 * @return true if skipped features of a specification should be reported as one item
+	 */
+	public boolean isSkippedCollapse() {
+		return skippedCollapse;
+	}
+
+	public void setSkippedCollapse(boolean skippedCollapse) {
+		this.skippedCollapse = skippedCollapse;
+	}
+
+	/**
+	 * @return how item logs, sent through the ReportPortal client or put to {@link ItemLogBuffer}, are reported
+	 */
+	@Nonnull
+	public LogsMode getLogsMode() {
+		return logsMode;
+	}
+
+	public void setLogsMode(@Nonnull LogsMode logsMode) {
+		this.logsMode = logsMode;
+	}
+
+	/**
+	 * @return maximum number of log entries buffered per item, older entries are discarded in {@link LogsMode#FAILURE}
+	 * mode, in {@link LogsMode#ITEM} mode a full buffer is sent as a batch
+	 */
+	public int getLogsBufferSize() {
+		return logsBufferSize;
+	}
+
+	public void setLogsBufferSize(int logsBufferSize) {
+		this.logsBufferSize = logsBufferSize;
+	}
+
+	/**
+	 * @return maximum time in milliseconds a log entry can wait in an item buffer in {@link LogsMode#ITEM} mode, zero or
+	 * negative value means no limit
+	 */
+	public long getLogsFlushTime() {
+		return logsFlushTime;
+	}
+
+	public void setLogsFlushTime(long logsFlushTime) {
+		this.logsFlushTime = logsFlushTime;
+	}
+
+	/**
+	 * @return minimum size in bytes of a file attachment to stream it from disk with a separate request, negative value
+	 * turns streaming off
+	 */
+	public long getAttachmentsStreamThreshold() {
+		return attachmentsStreamThreshold;
+	}
+
+	public void setAttachmentsStreamThreshold(long attachmentsStreamThreshold) {
+		this.attachmentsStreamThreshold = attachmentsStreamThreshold;
+	}
+
+	/**
+	 * @return maximum time in milliseconds to wait for streamed attachment uploads on the launch finish
+	 */
+	public long getAttachmentsTimeout() {
+		return attachmentsTimeout;
+	}
+
+	public void setAttachmentsTimeout(long attachmentsTimeout) {
+		this.attachmentsTimeout = attachmentsTimeout;
+	}
+
+	/**
+	 * @return true if feature and fixture methods annotated with {@link com.epam.reportportal.annotations.Step} should be
+	 * reported as nested steps by Spock interceptors, when AspectJ weaver is not attached, false by default. Helper methods
+	 * are not covered by the interceptors, see {@link com.epam.reportportal.spock.annotations.Steps} for them
+	 */
+	public boolean isNativeSteps() {
+		return nativeSteps;
+	}
+
+	public void setNativeSteps(boolean nativeSteps) {
+		this.nativeSteps = nativeSteps;
+	}
+
+	/**
+	 * @return true if the launch start request should be prepared on a background thread, overlapping with
+	 * specification discovery; the launch itself is still created and started on the thread which starts the
+	 * extension, disabled by default
+	 */
+	public boolean isBackgroundStart() {
+		return backgroundStart;
+	}
+
+	public void setBackgroundStart(boolean backgroundStart) {
+		this.backgroundStart = backgroundStart;
+	}
+
+	/**
+	 * @return number of threads which precompute item request templates while Spock visits specifications, zero (the
+	 * default) means templates are built on demand by the reporting callbacks. With the pool the attribute hooks of
+	 * {@link ReportPortalSpockListener} are called on its threads
+	 */
+	public int getTemplatesThreads() {
+		return templatesThreads;
+	}
+
+	public void setTemplatesThreads(int templatesThreads) {
+		this.templatesThreads = templatesThreads;
+	}
+
+	/**
+	 * @return true if test JVMs of the build, which use the same {@link #getWorkDir()} directory, should share one launch:
+	 * the first JVM starts it and the last one finishes it
+	 */
+	public boolean isLaunchShared() {
+		return launchShared;
+	}
+
+	public void setLaunchShared(boolean launchShared) {
+		this.launchShared = launchShared;
+	}
+
+	/**
+	 * @return time in milliseconds the last test JVM of a shared launch waits for new JVMs to join before finishing the
+	 * launch, 5 seconds by default, which covers a JVM restart by Gradle <code>forkEvery</code>; zero means forks which
+	 * start after all others have left start a new launch
+	 */
+	public long getLaunchSharedLinger() {
+		return launchSharedLinger;
+	}
+
+	public void setLaunchSharedLinger(long launchSharedLinger) {
+		this.launchSharedLinger = launchSharedLinger;
+	}
+
+	/**
+	 * @return number of started items after which the launch is finished at the next specification boundary and a
+	 * continuation launch is started, 0 means no limit
+	 */
+	public long getLaunchRolloverItems() {
+		return launchRolloverItems;
+	}
+
+	public void setLaunchRolloverItems(long launchRolloverItems) {
+		this.launchRolloverItems = launchRolloverItems;
+	}
+
+	/**
+	 * @return launch duration in milliseconds after which the launch is finished at the next specification boundary and
+	 * a continuation launch is started, 0 means no limit
+	 */
+	public long getLaunchRolloverTime() {
+		return launchRolloverTime;
+	}
+
+	public void setLaunchRolloverTime(long launchRolloverTime) {
+		this.launchRolloverTime = launchRolloverTime;
+	}
+
+	/**
+	 * @return number of threads which finish leftover specifications at the launch finish, 1 by default: the specifications
+	 * are finished one by one; more threads finish them concurrently, e.g. for big launches over a slow network
+	 */
+	public int getDrainThreads() {
+		return drainThreads;
+	}
+
+	public void setDrainThreads(int drainThreads) {
+		this.drainThreads = drainThreads;
+	}
+
+	/**
+	 * @return maximum time in milliseconds to finish leftover items, upload attachments and finish the launch, requests
+	 * which are not completed in time are abandoned and logged, 0 means no limit
+	 */
+	public long getDrainTimeout() {
+		return drainTimeout;
+	}
+
+	public void setDrainTimeout(long drainTimeout) {
+		this.drainTimeout = drainTimeout;
+	}
+
+	/**
+	 * @return interval in milliseconds of the launch finish progress logging, 0 turns the logging off
+	 */
+	public long getDrainProgress() {
+		return drainProgress;
+	}
+
+	public void setDrainProgress(long drainProgress) {
+		this.drainProgress = drainProgress;
+	}
+
+	/**
+	 * @return true if the agent registers a JVM shutdown hook, which finishes the launch with interrupted items if the JVM
+	 * is stopped before the test run end, false by default; set <code>rp.spock.shutdown.hook=true</code> to enable it, e.g.
+	 * when a build tool kills test JVMs on a timeout. The hook can delay the JVM exit up to the shutdown timeout
+	 */
+	public boolean isShutdownHook() {
+		return shutdownHook;
+	}
+
+	public void setShutdownHook(boolean shutdownHook) {
+		this.shutdownHook = shutdownHook;
+	}
+
+	/**
+	 * @return maximum time in milliseconds to finish the launch from the shutdown hook, requests which are not completed in
+	 * time are saved to the local journal
+	 */
+	public long getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	public void setShutdownTimeout(long shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.annotations.Step;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.spock.annotations.Steps;
+import jakarta.annotation.Nonnull;
+import org.spockframework.runtime.extension.IMethodInterceptor;
+import org.spockframework.runtime.extension.IMethodInvocation;
+import org.spockframework.runtime.model.MethodInfo;
+import org.spockframework.runtime.model.SpecInfo;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Reports specification feature and fixture methods, annotated with {@link Step}, as nested steps without AspectJ
+ * weaving. Methods of specifications annotated with {@link Steps} are reported by the generated code instead, which
+ * covers their helper methods too.
+ */
+class StepInterceptor implements IMethodInterceptor {
+	private static final boolean WEAVER_ACTIVE = detectWeaver();
+
+	private final Supplier<Launch> launch;
+
+	StepInterceptor(@Nonnull Supplier<Launch> launch) {
+		this.launch = launch;
+	}
+
+	/**
+	 * @return true if AspectJ weaver agent is attached to the JVM, then steps are reported by the client aspect
+	 */
+	static boolean isWeaverActive() {
+		return WEAVER_ACTIVE;
+	}
+
+	private static boolean detectWeaver() {
+		try {
+			return ManagementFactory.getRuntimeMXBean().getInputArguments().stream().anyMatch(a -> a.contains("aspectjweaver"));
+		} catch (RuntimeException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Add step interceptors to all feature and fixture methods of a specification annotated with {@link Step}.
+	 *
+	 * @param spec   Spock's specification
+	 * @param launch current launch supplier
+	 */
+	static void register(@Nonnull SpecInfo spec, @Nonnull Supplier<Launch> launch) {
+		StepInterceptor interceptor = new StepInterceptor(launch);
+		Stream.concat(spec.getAllFeatures().stream().map(f -> f.getFeatureMethod()), stream(spec.getAllFixtureMethods()))
+				.filter(m -> m.getReflection() != null)
+				.filter(m -> !m.getReflection().getDeclaringClass().isAnnotationPresent(Steps.class))
+				.filter(m -> {
+					Step step = m.getReflection().getAnnotation(Step.class);
+					return step != null && !step.isIgnored();
+				})
+				.forEach(m -> m.addInterceptor(interceptor));
+	}
+
+	@Nonnull
+	private static Stream<MethodInfo> stream(@Nonnull Iterable<MethodInfo> methods) {
+		Stream.Builder<MethodInfo> builder = Stream.builder();
+		methods.forEach(builder::add);
+		return builder.build();
+	}
+
+	@Override
+	public void intercept(IMethodInvocation invocation) throws Throwable {
+		Method method = invocation.getMethod().getReflection();
+		Step step = method.getAnnotation(Step.class);
+		String[] names = Arrays.stream(method.getParameters()).map(Parameter::getName).toArray(String[]::new);
+		Object[] args = invocation.getArguments();
+		String name = NestedSteps.getStepName(
+				step,
+				method,
+				invocation.getMethod().getName(),
+				names,
+				invocation.getInstance(),
+				args == null ? new Object[0] : args
+		);
+		NestedSteps.start(launch.get(), name, step.description());
+		try {
+			invocation.proceed();
+		} catch (Throwable e) {
+			NestedSteps.fail(e);
+			throw e;
+		} finally {
+			NestedSteps.finish();
+		}
+	}
+}
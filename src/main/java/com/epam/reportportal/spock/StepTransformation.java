@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.annotations.Step;
+import org.codehaus.groovy.ast.*;
+import org.codehaus.groovy.ast.expr.ArrayExpression;
+import org.codehaus.groovy.ast.expr.Expression;
+import org.codehaus.groovy.ast.stmt.CatchStatement;
+import org.codehaus.groovy.ast.stmt.Statement;
+import org.codehaus.groovy.ast.stmt.TryCatchStatement;
+import org.codehaus.groovy.control.CompilePhase;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codehaus.groovy.transform.AbstractASTTransformation;
+import org.codehaus.groovy.transform.GroovyASTTransformation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.codehaus.groovy.ast.tools.GeneralUtils.*;
+
+/**
+ * Compile-time transformation for classes annotated with {@link com.epam.reportportal.spock.annotations.Steps}. Wraps
+ * the body of each method annotated with {@link Step} into {@link NestedSteps} calls:
+ * <pre>
+ * NestedSteps.start(Type, "method", [types] as Class[], "name", [names] as String[], this, [args] as Object[])
+ * try {
+ *     // method body
+ * } catch (Throwable error) {
+ *     NestedSteps.fail(error)
+ *     throw error
+ * } finally {
+ *     NestedSteps.finish()
+ * }
+ * </pre>
+ */
+@GroovyASTTransformation(phase = CompilePhase.CANONICALIZATION)
+public class StepTransformation extends AbstractASTTransformation {
+	private static final ClassNode STEP = ClassHelper.make(Step.class);
+	private static final ClassNode NESTED_STEPS = ClassHelper.make(NestedSteps.class);
+	private static final ClassNode THROWABLE = ClassHelper.make(Throwable.class);
+	// Spock renames feature methods and keeps their names in this annotation
+	private static final String FEATURE_METADATA = "org.spockframework.runtime.model.FeatureMetadata";
+
+	@Override
+	public void visit(ASTNode[] nodes, SourceUnit source) {
+		init(nodes, source);
+		if (!(nodes[1] instanceof ClassNode)) {
+			return;
+		}
+		for (MethodNode method : ((ClassNode) nodes[1]).getMethods()) {
+			List<AnnotationNode> steps = method.getAnnotations(STEP);
+			if (steps.isEmpty() || method.isAbstract() || method.getCode() == null || memberHasValue(steps.get(0), "isIgnored", true)) {
+				continue;
+			}
+			method.setCode(wrap(method));
+		}
+	}
+
+	private static String getDefaultName(MethodNode method) {
+		return method.getAnnotations()
+				.stream()
+				.filter(a -> FEATURE_METADATA.equals(a.getClassNode().getName()))
+				.map(a -> getMemberStringValue(a, "name"))
+				.filter(Objects::nonNull)
+				.findAny()
+				.orElse(method.getName());
+	}
+
+	private static Statement wrap(MethodNode method) {
+		Parameter[] parameters = method.getParameters();
+		List<Expression> types = Arrays.stream(parameters)
+				.map(p -> (Expression) classX(p.getType().getPlainNodeReference()))
+				.collect(Collectors.toList());
+		List<Expression> names = Arrays.stream(parameters).map(p -> constX(p.getName())).collect(Collectors.toList());
+		List<Expression> values = Arrays.stream(parameters).map(p -> (Expression) varX(p)).collect(Collectors.toList());
+		Statement start = stmt(callX(
+				NESTED_STEPS,
+				"start",
+				args(
+						classX(method.getDeclaringClass().getPlainNodeReference()),
+						constX(method.getName()),
+						new ArrayExpression(ClassHelper.CLASS_Type, types),
+						constX(getDefaultName(method)),
+						new ArrayExpression(ClassHelper.STRING_TYPE, names),
+						method.isStatic() ? constX(null) : varX("this"),
+						new ArrayExpression(ClassHelper.OBJECT_TYPE, values)
+				)
+		));
+		Parameter error = param(THROWABLE, "$rpStepError");
+		TryCatchStatement body = new TryCatchStatement(method.getCode(), stmt(callX(NESTED_STEPS, "finish")));
+		body.addCatch(new CatchStatement(error, block(stmt(callX(NESTED_STEPS, "fail", args(varX(error)))), throwS(varX(error)))));
+		return block(new VariableScope(method.getVariableScope()), start, body);
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares attachments, which are captured and reported only if a test fails. Can be put on a specification class, then
+ * it applies to all its features, or on a feature method. Files are read when the attachment is sent, a feature
+ * passing costs nothing.
+ * <p>
+ * Example:
+ * <pre>
+ * &#064;AttachOnFailure(files = "build/logs/server.log", methods = "takeScreenshot")
+ * class LoginSpec extends Specification {
+ *     byte[] takeScreenshot() {
+ *         return driver.getScreenshotAs(OutputType.BYTES)
+ *     }
+ * }
+ * </pre>
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface AttachOnFailure {
+	/**
+	 * Paths of files or directories to attach, relative paths are resolved against the working directory. Regular files
+	 * of a directory are attached, subdirectories are not traversed.
+	 *
+	 * @return file or directory paths
+	 */
+	String[] files() default {};
+
+	/**
+	 * Names of specification instance methods without parameters, which are called right after the failure. A method
+	 * can return a {@link java.nio.file.Path}, a {@link java.io.File}, a path {@link String}, a byte array or an array or
+	 * {@link Iterable} of them.
+	 *
+	 * @return attachment supplier method names
+	 */
+	String[] methods() default {};
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.annotations;
+
+import org.codehaus.groovy.transform.GroovyASTTransformationClass;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a Spock specification, which reporting metadata should be computed at compile time: the code reference, test
+ * case IDs and attributes of the specification and its features are stored in a generated {@link SpecMetadata}
+ * annotation, so the agent doesn't need to reflect on them at runtime. Only the annotated class is processed, the
+ * annotation is not inherited by subclasses.
+ * <p>
+ * Example:
+ * <pre>
+ * &#064;ReportingMetadata
+ * &#064;Attributes(attributes = &#064;Attribute(key = "area", value = "login"))
+ * class LoginSpec extends Specification {
+ *     ...
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+@GroovyASTTransformationClass("com.epam.reportportal.spock.MetadataTransformation")
+public @interface ReportingMetadata {
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Reporting metadata of a Spock specification class, generated at compile time by
+ * {@link com.epam.reportportal.spock.MetadataTransformation} for classes annotated with {@link ReportingMetadata}. The
+ * agent reads it instead of reflecting on the specification and feature methods, and falls back to reflection for
+ * classes without it and for annotation values which can't be resolved at compile time.
+ * <p>
+ * Not supposed to be used in the code directly.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SpecMetadata {
+
+	/**
+	 * @return code reference of the specification, its canonical class name
+	 */
+	String codeRef();
+
+	/**
+	 * @return true if the specification class is annotated with
+	 * {@link com.epam.reportportal.annotations.attribute.Attributes}
+	 */
+	boolean attributes() default false;
+
+	/**
+	 * @return true if {@link #attributeValues()} hold all attributes of the specification class
+	 */
+	boolean attributesResolved() default false;
+
+	/**
+	 * @return attributes of the specification class, valid only if {@link #attributesResolved()} is true
+	 */
+	Attribute[] attributeValues() default {};
+
+	/**
+	 * @return metadata of the feature methods declared in the specification class
+	 */
+	Feature[] features() default {};
+
+	/**
+	 * An item attribute, as {@link com.epam.reportportal.utils.AttributeParser} builds it from the annotation
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({})
+	@interface Attribute {
+
+		/**
+		 * @return attribute key, ignored if {@link #nullKey()} is true
+		 */
+		String key() default "";
+
+		/**
+		 * @return true if the attribute has no key
+		 */
+		boolean nullKey() default false;
+
+		/**
+		 * @return attribute value
+		 */
+		String value();
+	}
+
+	/**
+	 * Reporting metadata of a feature method
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({})
+	@interface Feature {
+
+		/**
+		 * @return feature name, as Spock reports it
+		 */
+		String name();
+
+		/**
+		 * @return name of the feature method, as Spock generates it
+		 */
+		String method() default "";
+
+		/**
+		 * @return true if the feature method is annotated with {@link com.epam.reportportal.annotations.TestCaseId}
+		 */
+		boolean testCaseId() default false;
+
+		/**
+		 * @return test case ID of a not parametrized {@link com.epam.reportportal.annotations.TestCaseId} annotation,
+		 * empty if there is no such annotation or the value is not known at compile time
+		 */
+		String testCaseIdValue() default "";
+
+		/**
+		 * @return true if the feature method is annotated with
+		 * {@link com.epam.reportportal.annotations.attribute.Attributes}
+		 */
+		boolean attributes() default false;
+
+		/**
+		 * @return true if {@link #attributeValues()} hold all attributes of the feature method
+		 */
+		boolean attributesResolved() default false;
+
+		/**
+		 * @return attributes of the feature method, valid only if {@link #attributesResolved()} is true
+		 */
+		Attribute[] attributeValues() default {};
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.annotations;
+
+import org.codehaus.groovy.transform.GroovyASTTransformationClass;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a Groovy class, which methods annotated with {@link com.epam.reportportal.annotations.Step} should be reported
+ * as nested steps without AspectJ weaving. The step reporting code is added to the methods at compile time. A
+ * specification can be annotated too, then all its step methods are reported this way: features, fixtures and helper
+ * methods, which are not covered by the <code>rp.spock.steps.native</code> interceptors.
+ * <p>
+ * Example:
+ * <pre>
+ * &#064;Steps
+ * class LoginPage {
+ *     &#064;Step("Login as {user}")
+ *     void login(String user, String password) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ * If the AspectJ weaver agent is attached, the generated code leaves the steps to the client aspect.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@GroovyASTTransformationClass("com.epam.reportportal.spock.StepTransformation")
+public @interface Steps {
+}
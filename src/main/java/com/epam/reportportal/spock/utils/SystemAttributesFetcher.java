@@ -18,14 +18,23 @@ package com.epam.reportportal.spock.utils;
 
 import com.epam.reportportal.utils.properties.SystemAttributesExtractor;
 import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
 
+import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * Collects launch system attributes: OS, JVM and agent details. The attributes are collected once per JVM and reused
+ * by the following launches of the JVM, e.g. the launch parts of a rollover.
+ */
 public class SystemAttributesFetcher {
 
 	private static final String SKIPPED_ISSUE_KEY = "skippedIssue";
 	private static final String PROPS_FILE = "agent.properties";
 
+	private static volatile Set<ItemAttributesRQ> cachedAttributes;
+
 	private SystemAttributesFetcher() {
 		throw new RuntimeException("No instances should exist for the class!");
 	}
@@ -38,12 +47,46 @@ public class SystemAttributesFetcher {
 		return skippedIssueAttr;
 	}
 
+	/**
+	 * Collect launch system attributes, reusing the attributes collected before in this JVM.
+	 *
+	 * @param skippedAnIssue value of the skipped issue attribute
+	 * @return a new modifiable set of system attributes
+	 */
 	public static Set<ItemAttributesRQ> collectSystemAttributes(Boolean skippedAnIssue) {
-		Set<ItemAttributesRQ> systemAttributes = SystemAttributesExtractor.extract(
-				PROPS_FILE,
-				SystemAttributesFetcher.class.getClassLoader()
-		);
+		Set<ItemAttributesRQ> systemAttributes = copy(getSystemAttributes());
 		systemAttributes.add(skippedIssue(skippedAnIssue));
 		return systemAttributes;
 	}
+
+	/**
+	 * @return system attributes of this JVM, collected on the first call
+	 */
+	@Nonnull
+	static Set<ItemAttributesRQ> getSystemAttributes() {
+		Set<ItemAttributesRQ> attributes = cachedAttributes;
+		if (attributes != null) {
+			return attributes;
+		}
+		synchronized (SystemAttributesFetcher.class) {
+			if (cachedAttributes == null) {
+				cachedAttributes = copy(SystemAttributesExtractor.extract(PROPS_FILE, SystemAttributesFetcher.class.getClassLoader()));
+			}
+			return cachedAttributes;
+		}
+	}
+
+	@Nonnull
+	private static Set<ItemAttributesRQ> copy(@Nonnull Set<ItemAttributesRQ> attributes) {
+		return attributes.stream()
+				.map(a -> new ItemAttributesRQ(a.getKey(), a.getValue(), a.isSystem()))
+				.collect(Collectors.toCollection(HashSet::new));
+	}
+
+	/**
+	 * Forget the attributes cached in this JVM.
+	 */
+	static void reset() {
+		cachedAttributes = null;
+	}
 }
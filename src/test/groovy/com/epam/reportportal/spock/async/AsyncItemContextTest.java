@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.async;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.async.AsyncContextSpec;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class AsyncItemContextTest {
+	private final String classId = CommonUtils.namedId("class_");
+	private final String methodId = CommonUtils.namedId("method_");
+	private final String stepId = CommonUtils.namedId("step_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, classId, methodId);
+		TestUtils.mockNestedSteps(client, Collections.singletonList(Pair.of(methodId, stepId)));
+		TestUtils.mockBatchLogging(client);
+		SpockParameters parameters = new SpockParameters();
+		parameters.setAsync(true);
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_logs_and_steps_of_test_thread_go_to_its_item_in_async_mode() {
+		TestExecutionSummary result = runClasses(AsyncContextSpec.class);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		ArgumentCaptor<StartTestItemRQ> stepCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(same(methodId), stepCaptor.capture());
+		assertThat(stepCaptor.getValue().getName(), equalTo(AsyncContextSpec.STEP_NAME));
+		verify(client).finishTestItem(same(stepId), any());
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeast(1)).log(logCaptor.capture());
+		List<SaveLogRQ> logs = toSaveLogRQ(logCaptor.getAllValues()).stream()
+				.filter(rq -> AsyncContextSpec.LOG_MESSAGE.equals(rq.getMessage()))
+				.collect(Collectors.toList());
+		assertThat(logs, hasSize(1));
+		assertThat(logs.get(0).getItemUuid(), equalTo(methodId));
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.attachments;
+
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.features.attachments.FailedWithAttachOnFailure;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class AttachOnFailureTest {
+
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String classId = CommonUtils.namedId("class_");
+	private final List<String> methodIds = Stream.generate(() -> CommonUtils.namedId("method_")).limit(2).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, launchId, classId, methodIds);
+		TestUtils.mockBatchLogging(client);
+		TestExtension.listener = new ReportPortalSpockListener(ReportPortal.create(client, standardParameters(), testExecutor()));
+		FailedWithAttachOnFailure.screenshots = 0;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_attachment_is_captured_only_for_failed_feature() {
+		TestExecutionSummary result = runClasses(FailedWithAttachOnFailure.class);
+
+		assertThat(result.getTotalFailureCount(), equalTo(1L));
+		assertThat(FailedWithAttachOnFailure.screenshots, equalTo(1));
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeast(1)).log(logCaptor.capture());
+		List<SaveLogRQ> attachments = toSaveLogRQ(logCaptor.getAllValues()).stream()
+				.filter(rq -> rq.getFile() != null)
+				.collect(Collectors.toList());
+		assertThat(attachments, hasSize(1));
+		SaveLogRQ attachment = attachments.get(0);
+		assertThat(attachment.getLevel(), equalTo(LogLevel.ERROR.name()));
+		assertThat(attachment.getMessage(), equalTo("Attachment: screenshot"));
+		assertThat(attachment.getFile().getName(), equalTo("screenshot"));
+	}
+}
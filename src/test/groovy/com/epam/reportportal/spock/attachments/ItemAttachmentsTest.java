@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.attachments;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.attachments.AttachesFile;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.Constants;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import okhttp3.MultipartBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class ItemAttachmentsTest {
+
+	private final String classId = CommonUtils.namedId("class_");
+	private final String methodId = CommonUtils.namedId("method_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeEach
+	public void setupMock() throws IOException {
+		TestUtils.mockLaunch(client, null, classId, methodId);
+		TestUtils.mockBatchLogging(client);
+		SpockParameters parameters = new SpockParameters();
+		parameters.setAttachmentsStreamThreshold(0);
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+		AttachesFile.file = Files.write(tempDir.resolve("video.mp4"), "video".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_file_is_streamed_to_the_feature_item() {
+		TestExecutionSummary result = runClasses(AttachesFile.class);
+
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeast(1)).log(logCaptor.capture());
+		List<SaveLogRQ> attachments = toSaveLogRQ(logCaptor.getAllValues()).stream()
+				.filter(rq -> rq.getFile() != null)
+				.collect(Collectors.toList());
+		assertThat(attachments, hasSize(1));
+		assertThat(attachments.get(0).getItemUuid(), equalTo(methodId));
+		assertThat(attachments.get(0).getFile().getName(), equalTo("video.mp4"));
+
+		List<String> contents = logCaptor.getAllValues()
+				.stream()
+				.flatMap(List::stream)
+				.filter(p -> p.headers() != null && !p.headers().get("Content-Disposition").contains(Constants.LOG_REQUEST_JSON_PART))
+				.map(p -> {
+					Buffer buffer = new Buffer();
+					try {
+						p.body().writeTo(buffer);
+					} catch (IOException e) {
+						throw new IllegalStateException(e);
+					}
+					return buffer.readUtf8();
+				})
+				.collect(Collectors.toList());
+		assertThat(contents, contains("video"));
+	}
+}
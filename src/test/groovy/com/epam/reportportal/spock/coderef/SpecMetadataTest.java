@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.coderef;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.annotations.SpecMetadata;
+import com.epam.reportportal.spock.features.HelloSpockSpecUnroll;
+import com.epam.reportportal.spock.features.attributes.MetadataAttributes;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class SpecMetadataTest {
+
+	private static List<String> toStrings(SpecMetadata.Attribute[] attributes) {
+		return Arrays.stream(attributes).map(a -> (a.nullKey() ? null : a.key()) + ":" + a.value()).collect(Collectors.toList());
+	}
+
+	@Test
+	public void verify_spec_metadata_is_not_generated_without_annotation() {
+		assertThat(HelloSpockSpecUnroll.class.getAnnotation(SpecMetadata.class), nullValue());
+	}
+
+	@Test
+	public void verify_spec_metadata_carries_annotation_values() {
+		SpecMetadata metadata = MetadataAttributes.class.getAnnotation(SpecMetadata.class);
+
+		assertThat(metadata, notNullValue());
+		assertThat(metadata.codeRef(), equalTo(MetadataAttributes.class.getCanonicalName()));
+		assertThat(metadata.attributes(), equalTo(true));
+		assertThat(metadata.attributesResolved(), equalTo(true));
+		assertThat(toStrings(metadata.attributeValues()), contains(MetadataAttributes.KEY + ":" + MetadataAttributes.VALUE));
+		assertThat(metadata.features(), arrayWithSize(1));
+
+		SpecMetadata.Feature feature = metadata.features()[0];
+		assertThat(feature.name(), equalTo("feature with compile-time metadata"));
+		assertThat(feature.testCaseId(), equalTo(true));
+		assertThat(feature.testCaseIdValue(), equalTo(MetadataAttributes.TEST_CASE_ID));
+		assertThat(feature.attributesResolved(), equalTo(true));
+		assertThat(toStrings(feature.attributeValues()), contains("null:tag", "first:shared", "second:shared"));
+	}
+
+	@Test
+	public void verify_spec_metadata_values_are_reported() {
+		String classId = CommonUtils.namedId("class_");
+		String methodId = CommonUtils.namedId("method_");
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		TestUtils.mockLaunch(client, null, classId, methodId);
+		TestUtils.mockBatchLogging(client);
+		TestExtension.listener = new ReportPortalSpockListener(ReportPortal.create(client, standardParameters(), testExecutor()));
+
+		TestExecutionSummary result = runClasses(MetadataAttributes.class);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		ArgumentCaptor<StartTestItemRQ> specCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(specCaptor.capture());
+		ArgumentCaptor<StartTestItemRQ> featureCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client).startTestItem(same(classId), featureCaptor.capture());
+
+		assertThat(
+				specCaptor.getValue().getAttributes().stream().map(ItemAttributesRQ::getKey).collect(Collectors.toList()),
+				contains(MetadataAttributes.KEY)
+		);
+		StartTestItemRQ feature = featureCaptor.getValue();
+		assertThat(feature.getTestCaseId(), equalTo(MetadataAttributes.TEST_CASE_ID));
+		assertThat(
+				feature.getAttributes().stream().map(a -> a.getKey() + ":" + a.getValue()).collect(Collectors.toList()),
+				containsInAnyOrder("null:tag", "first:shared", "second:shared")
+		);
+	}
+}
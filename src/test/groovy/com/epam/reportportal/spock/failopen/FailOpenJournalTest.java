@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.failopen;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.HelloSpockSpec;
+import com.epam.reportportal.spock.features.failopen.SwitchToJournalSpec;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static com.epam.reportportal.utils.http.HttpRequestUtils.MAPPER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class FailOpenJournalTest {
+	private final String classId = CommonUtils.namedId("class_");
+	private final List<String> methodIds = Stream.generate(() -> CommonUtils.namedId("method_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@TempDir
+	Path workDir;
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, classId, methodIds);
+		when(client.startLaunch(any())).thenReturn(Maybe.error(new IllegalStateException("Server is down")));
+		SpockParameters parameters = new SpockParameters();
+		parameters.setFailOpen(true);
+		parameters.setWorkDir(workDir.toString());
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+	}
+
+	@Test
+	public void verify_unreachable_server_switches_reporting_to_local_journal() throws IOException {
+		TestExecutionSummary result = runClasses(HelloSpockSpec.class);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		verify(client, never()).startTestItem(any());
+		verify(client, never()).startTestItem(any(), any());
+
+		List<Path> journals;
+		try (Stream<Path> files = Files.list(workDir)) {
+			journals = files.collect(Collectors.toList());
+		}
+		assertThat(journals, hasSize(1));
+
+		List<String> events = Files.readAllLines(journals.get(0)).stream().map(l -> {
+			try {
+				return MAPPER.readTree(l);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}).map(n -> n.path("event").asText()).collect(Collectors.toList());
+
+		assertThat(events.get(0), equalTo("start_launch"));
+		assertThat(events.get(events.size() - 1), equalTo("finish_launch"));
+		long starts = events.stream().filter("start_item"::equals).count();
+		assertThat(starts, greaterThan(1L));
+		assertThat(events.stream().filter("finish_item"::equals).count(), equalTo(starts));
+	}
+
+	@Test
+	public void verify_items_started_before_the_switch_are_continued_in_the_journal() throws IOException {
+		String launchUuid = CommonUtils.namedId("launch_");
+		TestUtils.mockLaunch(client, launchUuid, classId, methodIds);
+		when(client.startTestItem(same(classId), any())).thenReturn(Maybe.error(new IllegalStateException("Server is down")));
+		SpockParameters parameters = new SpockParameters();
+		parameters.setFailOpen(true);
+		parameters.setHealthMaxErrors(1);
+		parameters.setWorkDir(workDir.toString());
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+
+		TestExecutionSummary result = runClasses(SwitchToJournalSpec.class);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+		verify(client, never()).finishLaunch(any(), any());
+
+		List<JsonNode> records;
+		try (Stream<Path> files = Files.list(workDir)) {
+			Path journal = files.findAny().orElseThrow(() -> new IllegalStateException("No journal"));
+			records = Files.readAllLines(journal).stream().map(l -> {
+				try {
+					return MAPPER.readTree(l);
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			}).collect(Collectors.toList());
+		}
+
+		// the server launch is continued, the specification started on the server gets a journal reference
+		assertThat(records.get(0).path("event").asText(), equalTo("resume_launch"));
+		assertThat(records.get(0).path("uuid").asText(), equalTo(launchUuid));
+		String specReference = records.stream()
+				.filter(r -> "server_item".equals(r.path("event").asText()) && classId.equals(r.path("uuid").asText()))
+				.map(r -> r.path("id").asText())
+				.findAny()
+				.orElseThrow(() -> new IllegalStateException("No specification reference"));
+
+		assertThat(
+				records.stream()
+						.filter(r -> "start_item".equals(r.path("event").asText()))
+						.map(r -> r.path("parent").asText())
+						.collect(Collectors.toList()), hasItem(specReference)
+		);
+		assertThat(
+				records.stream()
+						.filter(r -> "finish_item".equals(r.path("event").asText()))
+						.map(r -> r.path("id").asText())
+						.collect(Collectors.toList()), hasItem(specReference)
+		);
+		assertThat(records.get(records.size() - 1).path("event").asText(), equalTo("finish_launch"));
+	}
+}
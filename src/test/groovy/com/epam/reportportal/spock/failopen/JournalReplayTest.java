@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.failopen;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.LocalJournal;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class JournalReplayTest {
+	private final String launchId = CommonUtils.namedId("launch_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@TempDir
+	Path workDir;
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, launchId, CommonUtils.namedId("class_"), CommonUtils.namedId("method_"));
+		TestUtils.mockBatchLogging(client);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_logs_without_items_are_replayed_as_launch_logs() throws IOException {
+		Path file = workDir.resolve("journal.jsonl");
+		try (LocalJournal journal = new LocalJournal(file)) {
+			StartLaunchRQ startRq = new StartLaunchRQ();
+			startRq.setName("journal launch");
+			journal.startLaunch(startRq);
+			journal.log(null, "INFO", "launch message");
+			journal.log("unknown", "INFO", "orphan message");
+			journal.finishLaunch(new FinishExecutionRQ());
+		}
+
+		LocalJournal.replay(file, ReportPortal.create(client, standardParameters(), testExecutor()));
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, timeout(5000).atLeastOnce()).log(logCaptor.capture());
+		List<SaveLogRQ> logs = toSaveLogRQ(logCaptor.getAllValues());
+		assertThat(logs.stream().map(SaveLogRQ::getMessage).collect(Collectors.toList()),
+				containsInAnyOrder("launch message", "orphan message"));
+		logs.forEach(log -> {
+			assertThat(log.getItemUuid(), nullValue());
+			assertThat(log.getLaunchUuid(), equalTo(launchId));
+		});
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.features.async
+
+import com.epam.reportportal.annotations.Step
+import com.epam.reportportal.spock.annotations.Steps
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import spock.lang.Specification
+
+class AsyncContextSpec extends Specification {
+    public static final String LOG_MESSAGE = "A message from the feature"
+    public static final String STEP_NAME = "Open home"
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncContextSpec)
+
+    def page = new HomePage()
+
+    def "a feature logs and calls a step"() {
+        when:
+        LOGGER.info(LOG_MESSAGE)
+
+        then:
+        page.open("home")
+    }
+}
+
+@Steps
+class HomePage {
+
+    @Step("Open {page}")
+    boolean open(String page) {
+        return page != null
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.features.attributes
+
+import com.epam.reportportal.annotations.TestCaseId
+import com.epam.reportportal.annotations.attribute.Attribute
+import com.epam.reportportal.annotations.attribute.AttributeValue
+import com.epam.reportportal.annotations.attribute.Attributes
+import com.epam.reportportal.annotations.attribute.MultiKeyAttribute
+import com.epam.reportportal.spock.annotations.ReportingMetadata
+import spock.lang.Specification
+
+@ReportingMetadata
+@SuppressWarnings('UnnecessaryQualifiedReference')
+@Attributes(attributes = @Attribute(key = MetadataAttributes.KEY, value = MetadataAttributes.VALUE))
+class MetadataAttributes extends Specification {
+    public static final String KEY = "metadata_key"
+    public static final String VALUE = "metadata_value"
+    public static final String TEST_CASE_ID = "metadata_test_case_id"
+
+    @TestCaseId(MetadataAttributes.TEST_CASE_ID)
+    @Attributes(
+            attributeValues = @AttributeValue("tag"),
+            multiKeyAttributes = @MultiKeyAttribute(keys = ["first", "second"], value = "shared")
+    )
+    def "feature with compile-time metadata"() {
+        expect:
+        //noinspection GroovyPointlessBoolean
+        true == true
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.features.interrupted
+
+import com.epam.reportportal.spock.utils.TestExtension
+import spock.lang.Specification
+
+class InterruptedSpec extends Specification {
+
+    def "the JVM is stopped in the middle of a feature"() {
+        when:
+        // simulates the JVM shutdown hook call
+        TestExtension.listener.emergencyFinish()
+
+        then:
+        noExceptionThrown()
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.features.logs
+
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import spock.lang.Specification
+
+class AppenderLogsSpec extends Specification {
+    public static final String PASSED_MESSAGE = "A message from the passed feature"
+    public static final String FAILED_MESSAGE = "A message from the failed feature"
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AppenderLogsSpec)
+
+    def "a passed feature logs"() {
+        when:
+        LOGGER.info(PASSED_MESSAGE + " 1")
+        LOGGER.info(PASSED_MESSAGE + " 2")
+
+        then:
+        true
+    }
+
+    def "a failed feature logs"() {
+        when:
+        LOGGER.info(FAILED_MESSAGE)
+
+        then:
+        false
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.features.steps
+
+import com.epam.reportportal.annotations.Step
+import com.epam.reportportal.spock.annotations.Steps
+import spock.lang.Specification
+
+class NativeStepsSpec extends Specification {
+
+    def page = new LoginPage()
+
+    @Step("Check login")
+    def "login test"() {
+        expect:
+        page.login("admin")
+    }
+}
+
+@Steps
+class LoginPage {
+
+    @Step("Login as {user}")
+    boolean login(String user) {
+        return user != null
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.fixtures;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.fixtures.SetupFixtureParameters;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class TestAggregatedSetupFixtureIntegrity {
+	private final String classId = CommonUtils.namedId("class_");
+	private final String methodId = CommonUtils.namedId("method_");
+	private final List<String> nestedIds = Stream.generate(() -> CommonUtils.namedId("nested_")).limit(4).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, classId, methodId);
+		TestUtils.mockNestedSteps(client, nestedIds.stream().map(id -> Pair.of(methodId, id)).collect(Collectors.toList()));
+		TestUtils.mockBatchLogging(client);
+		SpockParameters parameters = new SpockParameters();
+		parameters.setFixtureAggregate(true);
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+	}
+
+	@Test
+	public void verify_passed_per_iteration_fixtures_are_reported_as_one_item() {
+		TestExecutionSummary result = runClasses(SetupFixtureParameters.class);
+
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(4)).startTestItem(same(methodId), startCaptor.capture());
+
+		List<StartTestItemRQ> fixtures = startCaptor.getAllValues()
+				.stream()
+				.filter(rq -> ItemType.BEFORE_METHOD.name().equals(rq.getType()))
+				.collect(Collectors.toList());
+		assertThat(fixtures, hasSize(1));
+		assertThat(
+				fixtures.get(0).getAttributes().stream().map(ItemAttributesRQ::getKey).collect(Collectors.toList()),
+				hasItem("invocations")
+		);
+		assertThat(
+				fixtures.get(0).getAttributes().stream()
+						.filter(a -> "invocations".equals(a.getKey()))
+						.map(ItemAttributesRQ::getValue)
+						.findAny()
+						.orElse(null), equalTo("3")
+		);
+
+		nestedIds.forEach(id -> verify(client).finishTestItem(eq(id), argThat(rq -> ItemStatus.PASSED.name().equals(rq.getStatus()))));
+		verify(client).finishTestItem(eq(methodId), any());
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.fixtures;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ItemType;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.fixtures.SetupSpecFixtureFailed;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class TestSetupSpecFixtureFailureCollapsedSkips {
+	private final String classId = CommonUtils.namedId("class_");
+	private final List<String> methodIds = Stream.generate(() -> CommonUtils.namedId("method_")).limit(2).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, classId, methodIds);
+		TestUtils.mockBatchLogging(client);
+		SpockParameters parameters = new SpockParameters();
+		parameters.setSkippedCollapse(true);
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+	}
+
+	@Test
+	public void verify_skipped_features_are_reported_as_one_item() {
+		TestExecutionSummary result = runClasses(SetupSpecFixtureFailed.class);
+
+		assertThat(result.getTotalFailureCount(), equalTo(1L));
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(2)).startTestItem(same(classId), startCaptor.capture());
+		List<StartTestItemRQ> startItems = startCaptor.getAllValues();
+		assertThat(
+				startItems.stream().map(StartTestItemRQ::getType).collect(Collectors.toList()),
+				containsInAnyOrder(ItemType.STEP.name(), ItemType.BEFORE_CLASS.name())
+		);
+		Optional<StartTestItemRQ> skipped = startItems.stream().filter(i -> ItemType.STEP.name().equals(i.getType())).findAny();
+		assertThat(skipped.isPresent(), equalTo(true));
+		assertThat(skipped.get().getName(), equalTo("2 features skipped"));
+		assertThat(skipped.get().getDescription(), allOf(containsString("simple test 1"), containsString("simple test 2")));
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		methodIds.forEach(id -> verify(client).finishTestItem(eq(id), finishCaptor.capture()));
+		List<FinishTestItemRQ> finishItems = finishCaptor.getAllValues();
+		assertThat(
+				finishItems.stream().map(FinishTestItemRQ::getStatus).collect(Collectors.toList()),
+				containsInAnyOrder(ItemStatus.FAILED.name(), ItemStatus.SKIPPED.name())
+		);
+		finishItems.stream()
+				.filter(i -> ItemStatus.SKIPPED.name().equals(i.getStatus()))
+				.forEach(i -> assertThat(i.getIssue().getIssueType(), equalTo(Launch.NOT_ISSUE.getIssueType())));
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.groups;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.HelloSpockSpecUnroll;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class IterationGroupsTest {
+	private final String classId = CommonUtils.namedId("class_");
+	private final List<String> groupIds = Stream.generate(() -> CommonUtils.namedId("group_")).limit(2).collect(Collectors.toList());
+	private final List<String> methodIds = Stream.generate(() -> CommonUtils.namedId("method_")).limit(3).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, classId, groupIds);
+		TestUtils.mockNestedSteps(
+				client, Arrays.asList(
+						Pair.of(groupIds.get(0), methodIds.get(0)),
+						Pair.of(groupIds.get(0), methodIds.get(1)),
+						Pair.of(groupIds.get(1), methodIds.get(2))
+				)
+		);
+		SpockParameters parameters = new SpockParameters();
+		parameters.setIterationGroupSize(2);
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+	}
+
+	@Test
+	public void verify_unrolled_iterations_are_grouped() {
+		TestExecutionSummary result = runClasses(HelloSpockSpecUnroll.class);
+
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		ArgumentCaptor<StartTestItemRQ> groupCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(2)).startTestItem(same(classId), groupCaptor.capture());
+		assertThat(
+				groupCaptor.getAllValues().stream().map(StartTestItemRQ::getName).collect(Collectors.toList()),
+				contains("Iterations 1–2", "Iterations 3–3")
+		);
+		groupCaptor.getAllValues().forEach(rq -> assertThat(rq.getType(), equalTo("SUITE")));
+
+		verify(client, times(2)).startTestItem(same(groupIds.get(0)), any());
+		verify(client, times(1)).startTestItem(same(groupIds.get(1)), any());
+
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		groupIds.forEach(id -> verify(client).finishTestItem(same(id), finishCaptor.capture()));
+		finishCaptor.getAllValues().forEach(rq -> assertThat(rq.getStatus(), equalTo(ItemStatus.PASSED.name())));
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.inflight;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.InFlightWindow;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.HelloSpockSpec;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class SpilledItemsTest {
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String classId = CommonUtils.namedId("class_");
+	private final String methodId = CommonUtils.namedId("method_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@TempDir
+	Path workDir;
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, launchId, classId, methodId);
+		// the specification start holds the only window slot, so the feature start is spilled
+		when(client.startTestItem(any())).thenReturn(Maybe.just(new ItemCreatedRS(classId, classId)).delay(300, TimeUnit.MILLISECONDS));
+		TestExtension.listener = createListener(1000);
+	}
+
+	private ReportPortalSpockListener createListener(int spillMax) {
+		SpockParameters parameters = new SpockParameters();
+		parameters.setInFlightMax(1);
+		parameters.setInFlightPolicy(InFlightWindow.Policy.SPILL);
+		parameters.setInFlightSpillMax(spillMax);
+		parameters.setWorkDir(workDir.toString());
+		return new ReportPortalSpockListener(ReportPortal.create(client, standardParameters(), testExecutor()), parameters);
+	}
+
+	@Test
+	public void verify_spilled_items_are_started_in_the_same_launch_under_their_parents() throws IOException {
+		TestExecutionSummary result = runClasses(HelloSpockSpec.class);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		assertThat(TestExtension.listener.getInFlightWindow().getSpilled(), greaterThan(0L));
+		verify(client, times(1)).startLaunch(any());
+		verify(client, times(1)).startTestItem(same(classId), any());
+		verify(client, times(1)).finishTestItem(same(methodId), any());
+		verify(client, times(1)).finishTestItem(same(classId), any());
+		verify(client, times(1)).finishLaunch(eq(launchId), any());
+
+		try (Stream<Path> files = Files.list(workDir)) {
+			assertThat(files.count(), equalTo(0L));
+		}
+	}
+
+	@Test
+	public void verify_items_wait_for_the_window_when_the_spill_queue_is_full() {
+		TestExtension.listener = createListener(0);
+		TestExecutionSummary result = runClasses(HelloSpockSpec.class);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		assertThat(TestExtension.listener.getInFlightWindow().getSpilled(), equalTo(0L));
+		verify(client, times(1)).startTestItem(same(classId), any());
+		verify(client, times(1)).finishTestItem(same(methodId), any());
+		verify(client, times(1)).finishLaunch(eq(launchId), any());
+	}
+}
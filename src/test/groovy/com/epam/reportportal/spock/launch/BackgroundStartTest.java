@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.launch;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.HelloSpockSpec;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class BackgroundStartTest {
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String classId = CommonUtils.namedId("class_");
+	private final String methodId = CommonUtils.namedId("method_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final List<Thread> launchThreads = new CopyOnWriteArrayList<>();
+	private final List<String> requestThreads = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, launchId, classId, methodId);
+		TestUtils.mockBatchLogging(client);
+		TestExtension.listener = createListener(false);
+	}
+
+	private ReportPortalSpockListener createListener(boolean async) {
+		ReportPortal reportPortal = spy(ReportPortal.create(client, standardParameters(), testExecutor()));
+		doAnswer(invocation -> {
+			launchThreads.add(Thread.currentThread());
+			return invocation.callRealMethod();
+		}).when(reportPortal).newLaunch(any(StartLaunchRQ.class));
+		SpockParameters parameters = new SpockParameters();
+		parameters.setBackgroundStart(true);
+		parameters.setAsync(async);
+		return new ReportPortalSpockListener(reportPortal, parameters) {
+			@Override
+			protected StartLaunchRQ buildStartLaunchRq(ListenerParameters parameters) {
+				String thread = Thread.currentThread().getName();
+				requestThreads.add(thread);
+				StartLaunchRQ rq = super.buildStartLaunchRq(parameters);
+				rq.setDescription("prepared on " + thread);
+				return rq;
+			}
+		};
+	}
+
+	@Test
+	public void verify_background_start_creates_launch_on_extension_start_thread() {
+		TestExecutionSummary result = runClasses(HelloSpockSpec.class);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		assertThat(launchThreads, contains(Thread.currentThread()));
+		verify(client).startLaunch(any());
+		verify(client).startTestItem(any());
+		verify(client).finishLaunch(eq(launchId), any());
+	}
+
+	@Test
+	public void verify_background_start_sends_the_prepared_launch_start_request() {
+		TestExecutionSummary result = runClasses(HelloSpockSpec.class);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		assertThat(requestThreads, contains("rp-spock-startup"));
+		ArgumentCaptor<StartLaunchRQ> captor = ArgumentCaptor.forClass(StartLaunchRQ.class);
+		verify(client).startLaunch(captor.capture());
+		assertThat(captor.getValue().getDescription(), equalTo("prepared on rp-spock-startup"));
+	}
+
+	@Test
+	public void verify_background_start_does_not_hold_asynchronous_reporting() {
+		TestExtension.listener = createListener(true);
+		long start = System.nanoTime();
+		TestExecutionSummary result = runClasses(HelloSpockSpec.class);
+		long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		// the reporter thread would wait for the launch start for 30 seconds, if the start thread didn't start it
+		assertThat(duration, lessThan(10_000L));
+		assertThat(launchThreads, contains(Thread.currentThread()));
+		verify(client).startLaunch(any());
+		verify(client).finishLaunch(eq(launchId), any());
+	}
+
+	@Test
+	public void verify_background_start_is_disabled_by_default() {
+		assertThat(new SpockParameters().isBackgroundStart(), equalTo(false));
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.launch;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.HelloSpockSpec;
+import com.epam.reportportal.spock.features.HelloSpockSpecUnroll;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class LaunchRolloverTest {
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final List<Pair<String, List<String>>> tests = Stream.generate(() -> Pair.of(
+			CommonUtils.namedId("class_"),
+			Stream.generate(() -> CommonUtils.namedId("method_")).limit(3).collect(Collectors.toList())
+	)).limit(2).collect(Collectors.toList());
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, launchId, tests);
+		TestUtils.mockBatchLogging(client);
+		SpockParameters parameters = new SpockParameters();
+		parameters.setLaunchRolloverItems(1);
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+	}
+
+	@Test
+	public void verify_launch_is_rolled_over_at_spec_boundary() {
+		TestExecutionSummary result = runClasses(HelloSpockSpec.class, HelloSpockSpecUnroll.class);
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		ArgumentCaptor<StartLaunchRQ> captor = ArgumentCaptor.forClass(StartLaunchRQ.class);
+		verify(client, times(2)).startLaunch(captor.capture());
+		verify(client, times(2)).finishLaunch(eq(launchId), any());
+		verify(client, times(2)).startTestItem(any());
+
+		List<StartLaunchRQ> launches = captor.getAllValues();
+		assertThat(launches.get(0).getName(), equalTo(launches.get(1).getName()));
+		assertThat(
+				launches.get(0).getAttributes().stream().map(ItemAttributesRQ::getKey).collect(Collectors.toList()),
+				not(hasItem("launchPart"))
+		);
+		List<String> continuation = launches.get(1)
+				.getAttributes()
+				.stream()
+				.map(a -> a.getKey() + ":" + a.getValue())
+				.collect(Collectors.toList());
+		assertThat(continuation, hasItems("launchPart:2", "previousLaunch:" + launchId));
+	}
+}
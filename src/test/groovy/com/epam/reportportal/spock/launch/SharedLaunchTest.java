@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.launch;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.reportportal.spock.utils.TestUtils.standardParameters;
+import static com.epam.reportportal.spock.utils.TestUtils.testExecutor;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class SharedLaunchTest {
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@TempDir
+	Path workDir;
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, launchId, CommonUtils.namedId("class_"), CommonUtils.namedId("method_"));
+	}
+
+	private ReportPortalSpockListener createListener(ListenerParameters listenerParameters, long linger) {
+		SpockParameters parameters = new SpockParameters();
+		parameters.setWorkDir(workDir.toString());
+		parameters.setLaunchShared(true);
+		parameters.setLaunchSharedLinger(linger);
+		return new ReportPortalSpockListener(ReportPortal.create(client, listenerParameters, testExecutor()), parameters) {
+			@Override
+			protected StartLaunchRQ buildStartLaunchRq(ListenerParameters parameters) {
+				// the server starts the launch with the UUID of the request
+				StartLaunchRQ rq = super.buildStartLaunchRq(parameters);
+				rq.setUuid(launchId);
+				return rq;
+			}
+		};
+	}
+
+	private ReportPortalSpockListener createListener() {
+		return createListener(standardParameters(), 0);
+	}
+
+	@Test
+	public void verify_launch_is_started_by_the_first_and_finished_by_the_last_participant() {
+		ReportPortalSpockListener first = createListener();
+		ReportPortalSpockListener second = createListener();
+
+		assertThat(first.startLaunch().blockingGet(), equalTo(launchId));
+		assertThat(second.startLaunch().blockingGet(), equalTo(launchId));
+		assertThat(Files.exists(workDir.resolve("launch.state")), equalTo(true));
+
+		first.finishLaunch();
+		verify(client, never()).finishLaunch(any(), any());
+
+		second.finishLaunch();
+		verify(client, times(1)).startLaunch(any());
+		verify(client, times(1)).finishLaunch(eq(launchId), any());
+	}
+
+	@Test
+	public void verify_launch_is_started_again_when_all_participants_left() {
+		ReportPortalSpockListener first = createListener();
+		first.startLaunch().blockingGet();
+		first.finishLaunch();
+
+		ReportPortalSpockListener second = createListener();
+		second.startLaunch().blockingGet();
+		second.finishLaunch();
+
+		verify(client, times(2)).startLaunch(any());
+		verify(client, times(2)).finishLaunch(eq(launchId), any());
+	}
+
+	@Test
+	public void verify_launch_is_taken_over_by_a_participant_which_joins_during_the_linger() throws Exception {
+		ReportPortalSpockListener first = createListener(standardParameters(), 2000);
+		first.startLaunch().blockingGet();
+		CompletableFuture<Void> firstFinish = CompletableFuture.runAsync(first::finishLaunch);
+		Thread.sleep(300);
+
+		ReportPortalSpockListener second = createListener();
+		assertThat(second.startLaunch().blockingGet(), equalTo(launchId));
+		firstFinish.get(10, TimeUnit.SECONDS);
+		verify(client, never()).finishLaunch(any(), any());
+
+		second.finishLaunch();
+		verify(client, times(1)).startLaunch(any());
+		verify(client, times(1)).finishLaunch(eq(launchId), any());
+	}
+
+	@Test
+	public void verify_first_participant_does_not_wait_for_launch_start_under_the_lock() {
+		when(client.startLaunch(any())).thenReturn(Maybe.never());
+		ReportPortalSpockListener first = createListener();
+		ReportPortalSpockListener second = createListener();
+
+		first.startLaunch();
+		assertThat(second.startLaunch().timeout(5, TimeUnit.SECONDS).blockingGet(), equalTo(launchId));
+
+		verify(client, timeout(1000).times(1)).startLaunch(any());
+	}
+
+	@Test
+	public void verify_shared_launch_does_not_change_client_parameters() {
+		ListenerParameters listenerParameters = standardParameters();
+		listenerParameters.setClientJoin(true);
+		ReportPortalSpockListener listener = createListener(listenerParameters, 0);
+		listener.startLaunch().blockingGet();
+		listener.finishLaunch();
+
+		assertThat(listenerParameters.isClientJoin(), equalTo(true));
+	}
+
+	@Test
+	public void verify_shared_launch_lingers_by_default() {
+		assertThat(new SpockParameters().getLaunchSharedLinger(), greaterThan(0L));
+	}
+}
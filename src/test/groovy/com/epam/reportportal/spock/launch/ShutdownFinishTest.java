@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.launch;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.interrupted.InterruptedSpec;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import io.reactivex.Maybe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static com.epam.reportportal.utils.http.HttpRequestUtils.MAPPER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ShutdownFinishTest {
+	private final String launchId = CommonUtils.namedId("launch_");
+	private final String classId = CommonUtils.namedId("class_");
+	private final String methodId = CommonUtils.namedId("method_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+	private final SpockParameters parameters = new SpockParameters();
+
+	@TempDir
+	Path workDir;
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, launchId, classId, methodId);
+		TestUtils.mockBatchLogging(client);
+		parameters.setWorkDir(workDir.toString());
+		parameters.setShutdownTimeout(1000);
+	}
+
+	private TestExecutionSummary runInterrupted() {
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+		return runClasses(InterruptedSpec.class);
+	}
+
+	@Test
+	public void verify_shutdown_finishes_unpublished_items_as_interrupted() {
+		TestExecutionSummary result = runInterrupted();
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		ArgumentCaptor<FinishTestItemRQ> methodFinish = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, atLeastOnce()).finishTestItem(same(methodId), methodFinish.capture());
+		assertThat(methodFinish.getAllValues().get(0).getStatus(), equalTo(ItemStatus.INTERRUPTED.name()));
+
+		ArgumentCaptor<FinishTestItemRQ> classFinish = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, atLeastOnce()).finishTestItem(same(classId), classFinish.capture());
+		assertThat(classFinish.getAllValues().get(0).getStatus(), equalTo(ItemStatus.INTERRUPTED.name()));
+
+		// the regular launch finish does nothing after the shutdown finish
+		ArgumentCaptor<FinishExecutionRQ> launchFinish = ArgumentCaptor.forClass(FinishExecutionRQ.class);
+		verify(client, times(1)).finishLaunch(eq(launchId), launchFinish.capture());
+		assertThat(launchFinish.getValue().getStatus(), equalTo(ItemStatus.INTERRUPTED.name()));
+	}
+
+	@Test
+	public void verify_shutdown_saves_launch_finish_to_journal_when_out_of_time() throws IOException {
+		when(client.finishLaunch(eq(launchId), any())).thenReturn(Maybe.never());
+		parameters.setShutdownTimeout(300);
+
+		TestExecutionSummary result = runInterrupted();
+		assertThat(result.getTotalFailureCount(), equalTo(0L));
+
+		List<Path> journals;
+		try (Stream<Path> files = Files.list(workDir)) {
+			journals = files.filter(f -> f.getFileName().toString().startsWith("interrupted-")).collect(Collectors.toList());
+		}
+		assertThat(journals, hasSize(1));
+
+		List<String> events = Files.readAllLines(journals.get(0)).stream().map(l -> {
+			try {
+				return MAPPER.readTree(l);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}).map(n -> n.path("event").asText()).collect(Collectors.toList());
+		assertThat(events.get(0), equalTo("resume_launch"));
+		assertThat(events.get(events.size() - 1), equalTo("finish_launch"));
+	}
+
+	@Test
+	public void verify_shutdown_hook_is_disabled_by_default() {
+		assertThat(new SpockParameters().isShutdownHook(), equalTo(false));
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.logs;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.logs.AppenderLogsSpec;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import okhttp3.MultipartBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class ItemLogBatchingTest {
+	private final String classId = CommonUtils.namedId("class_");
+	private final String passedMethodId = CommonUtils.namedId("method_");
+	private final String failedMethodId = CommonUtils.namedId("method_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, classId, Arrays.asList(passedMethodId, failedMethodId));
+		TestUtils.mockBatchLogging(client);
+		SpockParameters parameters = new SpockParameters();
+		parameters.setLogsMode(SpockParameters.LogsMode.ITEM);
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_appender_logs_of_an_item_are_sent_as_one_batch() {
+		TestExecutionSummary result = runClasses(AppenderLogsSpec.class);
+		assertThat(result.getTotalFailureCount(), equalTo(1L));
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeast(1)).log(logCaptor.capture());
+
+		// the client sends every log separately with the test parameters, held logs of an item go in one request
+		List<List<SaveLogRQ>> passedBatches = logCaptor.getAllValues()
+				.stream()
+				.map(rq -> toSaveLogRQ(Collections.singletonList(rq)).stream()
+						.filter(log -> log.getMessage() != null && log.getMessage().startsWith(AppenderLogsSpec.PASSED_MESSAGE))
+						.collect(Collectors.toList()))
+				.filter(batch -> !batch.isEmpty())
+				.collect(Collectors.toList());
+		assertThat(passedBatches, hasSize(1));
+		List<SaveLogRQ> passedLogs = passedBatches.get(0);
+		assertThat(passedLogs, hasSize(2));
+		passedLogs.forEach(log -> assertThat(log.getItemUuid(), equalTo(passedMethodId)));
+
+		List<SaveLogRQ> failedLogs = toSaveLogRQ(logCaptor.getAllValues()).stream()
+				.filter(log -> AppenderLogsSpec.FAILED_MESSAGE.equals(log.getMessage()))
+				.collect(Collectors.toList());
+		assertThat(failedLogs, hasSize(1));
+		assertThat(failedLogs.get(0).getItemUuid(), equalTo(failedMethodId));
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.spock.nestedsteps;
+
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.nestedsteps.DeferredIterationContextSpec;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import okhttp3.MultipartBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class DeferredIterationContextTest {
+	private final String classId = CommonUtils.namedId("class_");
+	private final String methodId = CommonUtils.namedId("method_");
+	private final String iterationId = CommonUtils.namedId("iteration_");
+	private final String stepId = CommonUtils.namedId("step_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, classId, methodId);
+		TestUtils.mockNestedSteps(client, Arrays.asList(Pair.of(methodId, iterationId), Pair.of(iterationId, stepId)));
+		TestUtils.mockBatchLogging(client);
+		SpockParameters parameters = new SpockParameters();
+		parameters.setNestedIterations(SpockParameters.NestedIterations.FAILED);
+		parameters.setNestedIterationsDeferred(true);
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void verify_logs_and_steps_of_deferred_iterations_follow_the_iteration() {
+		TestExecutionSummary result = runClasses(DeferredIterationContextSpec.class);
+		assertThat(result.getTotalFailureCount(), equalTo(1L));
+
+		// only the failed iteration is reported, its step goes under the iteration and is finished before it
+		verify(client, times(1)).startTestItem(same(methodId), any());
+		ArgumentCaptor<StartTestItemRQ> stepCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(1)).startTestItem(same(iterationId), stepCaptor.capture());
+		assertThat(stepCaptor.getValue().getName(), equalTo(DeferredIterationContextSpec.FAILED_STEP_NAME));
+		verify(client).finishTestItem(same(stepId), any());
+		verify(client).finishTestItem(same(iterationId), any());
+
+		ArgumentCaptor<List<MultipartBody.Part>> logCaptor = ArgumentCaptor.forClass(List.class);
+		verify(client, atLeast(1)).log(logCaptor.capture());
+		List<SaveLogRQ> logs = toSaveLogRQ(logCaptor.getAllValues()).stream()
+				.filter(rq -> rq.getMessage() != null && rq.getMessage().startsWith(DeferredIterationContextSpec.LOG_MESSAGE_PREFIX))
+				.collect(Collectors.toList());
+		assertThat(logs, hasSize(1));
+		assertThat(logs.get(0).getMessage(), endsWith(DeferredIterationContextSpec.FAILED_PAGE));
+		assertThat(logs.get(0).getItemUuid(), equalTo(iterationId));
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.nestedsteps;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.spock.ReportPortalSpockListener;
+import com.epam.reportportal.spock.SpockParameters;
+import com.epam.reportportal.spock.features.fail.HelloSpockSpecFailed;
+import com.epam.reportportal.spock.utils.TestExtension;
+import com.epam.reportportal.spock.utils.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.spock.utils.TestUtils.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+public class FailedOnlyNestedStepsTest {
+
+	private final String classId = CommonUtils.namedId("class_");
+	private final String methodId = CommonUtils.namedId("method_");
+	private final String nestedStepId = CommonUtils.namedId("method_");
+
+	private final ReportPortalClient client = mock(ReportPortalClient.class);
+
+	@BeforeEach
+	public void setupMock() {
+		TestUtils.mockLaunch(client, null, classId, methodId);
+		TestUtils.mockNestedSteps(client, Collections.singletonList(Pair.of(methodId, nestedStepId)));
+		TestUtils.mockBatchLogging(client);
+		SpockParameters parameters = new SpockParameters();
+		parameters.setNestedIterations(SpockParameters.NestedIterations.FAILED);
+		TestExtension.listener = new ReportPortalSpockListener(
+				ReportPortal.create(client, standardParameters(), testExecutor()),
+				parameters
+		);
+	}
+
+	@Test
+	public void verify_only_failed_nested_step_is_reported_with_aggregated_counts() {
+		TestExecutionSummary result = runClasses(HelloSpockSpecFailed.class);
+
+		assertThat(result.getTotalFailureCount(), equalTo(1L));
+
+		ArgumentCaptor<StartTestItemRQ> startCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, times(1)).startTestItem(same(methodId), startCaptor.capture());
+		assertThat(startCaptor.getValue().isHasStats(), equalTo(Boolean.FALSE));
+
+		ArgumentCaptor<FinishTestItemRQ> finishNestedStepCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client).finishTestItem(eq(nestedStepId), finishNestedStepCaptor.capture());
+		assertThat(finishNestedStepCaptor.getValue().getStatus(), equalTo(ItemStatus.FAILED.name()));
+
+		ArgumentCaptor<FinishTestItemRQ> finishStepCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client).finishTestItem(eq(methodId), finishStepCaptor.capture());
+		FinishTestItemRQ featureFinish = finishStepCaptor.getValue();
+		assertThat(featureFinish.getStatus(), equalTo(ItemStatus.FAILED.name()));
+		Map<String, String> attributes = featureFinish.getAttributes()
+				.stream()
+				.collect(Collectors.toMap(ItemAttributesRQ::getKey, ItemAttributesRQ::getValue));
+		assertThat(attributes, hasEntry("iterations", "3"));
+		assertThat(attributes, hasEntry("iterations.passed", "2"));
+		assertThat(attributes, hasEntry("iterations.failed", "1"));
+		assertThat(featureFinish.getDescription(), containsString("Iterations: 3"));
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import okhttp3.MediaType;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class AttachmentUploaderTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void file_request_body_streams_whole_file_in_chunks() throws IOException {
+		byte[] content = new byte[(int) (AttachmentUploader.CHUNK_SIZE * 2 + 17)];
+		new Random(42).nextBytes(content);
+		Path file = tempDir.resolve("dump.bin");
+		Files.write(file, content);
+
+		AttachmentUploader.FileRequestBody body = new AttachmentUploader.FileRequestBody(
+				file,
+				MediaType.parse(Attachment.DEFAULT_CONTENT_TYPE)
+		);
+		Buffer sink = new Buffer();
+		body.writeTo(sink);
+
+		assertThat(body.contentLength(), equalTo((long) content.length));
+		assertThat(sink.readByteArray(), equalTo(content));
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import io.reactivex.subjects.MaybeSubject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class InFlightWindowTest {
+
+	@Test
+	public void window_slot_is_released_on_server_response() {
+		InFlightWindow window = new InFlightWindow(2, InFlightWindow.Policy.BLOCK);
+		MaybeSubject<String> first = MaybeSubject.create();
+		MaybeSubject<String> second = MaybeSubject.create();
+
+		assertThat(window.tryAcquire(), is(true));
+		window.track(first);
+		assertThat(window.tryAcquire(), is(true));
+		window.track(second);
+		assertThat(window.tryAcquire(), is(false));
+		assertThat(window.getInFlight(), equalTo(2));
+
+		first.onSuccess("id");
+		second.onError(new IllegalStateException());
+
+		assertThat(window.getInFlight(), equalTo(0));
+		assertThat(window.getPeakInFlight(), equalTo(2));
+		assertThat(window.getCompleted(), equalTo(2L));
+		assertThat(window.tryAcquire(), is(true));
+	}
+
+	@Test
+	public void unbounded_window_never_rejects() {
+		InFlightWindow window = new InFlightWindow(0, InFlightWindow.Policy.BLOCK);
+		for (int i = 0; i < 100; i++) {
+			assertThat(window.tryAcquire(), is(true));
+			window.track(MaybeSubject.<String>create());
+		}
+		assertThat(window.getInFlight(), equalTo(100));
+	}
+
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		while (thread.getState() != Thread.State.WAITING) {
+			Thread.sleep(10);
+		}
+	}
+
+	@Test
+	public void failure_request_takes_freed_slot_before_waiting_regular_request() throws InterruptedException {
+		InFlightWindow window = new InFlightWindow(1, InFlightWindow.Policy.BLOCK);
+		MaybeSubject<String> first = MaybeSubject.create();
+		assertThat(window.tryAcquire(), is(true));
+		window.track(first);
+
+		List<String> order = new CopyOnWriteArrayList<>();
+		MaybeSubject<String> priorityRequest = MaybeSubject.create();
+		Thread regular = new Thread(() -> {
+			window.acquire();
+			order.add("regular");
+		});
+		Thread priority = new Thread(() -> {
+			window.acquire(true);
+			order.add("priority");
+			window.track(priorityRequest);
+		});
+		regular.start();
+		awaitWaiting(regular);
+		priority.start();
+		awaitWaiting(priority);
+		assertThat(window.tryAcquire(), is(false));
+
+		first.onSuccess("id");
+		priority.join(5000);
+		assertThat(order, contains("priority"));
+		assertThat(window.getPrioritized(), equalTo(1L));
+
+		priorityRequest.onSuccess("id");
+		regular.join(5000);
+		assertThat(order, contains("priority", "regular"));
+	}
+
+	@Test
+	public void failure_request_is_not_prioritized_in_unbounded_window() {
+		InFlightWindow window = new InFlightWindow(0, InFlightWindow.Policy.BLOCK);
+		window.track(MaybeSubject.<String>create());
+
+		window.acquire(true);
+
+		assertThat(window.getPrioritized(), equalTo(0L));
+	}
+
+	@Test
+	public void failure_request_overtakes_all_waiting_regular_requests() throws InterruptedException {
+		InFlightWindow window = new InFlightWindow(1, InFlightWindow.Policy.BLOCK);
+		MaybeSubject<String> first = MaybeSubject.create();
+		assertThat(window.tryAcquire(), is(true));
+		window.track(first);
+
+		List<String> order = new CopyOnWriteArrayList<>();
+		List<MaybeSubject<String>> responses = new CopyOnWriteArrayList<>();
+		List<Thread> regulars = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Thread regular = new Thread(() -> {
+				window.acquire();
+				order.add("regular");
+				MaybeSubject<String> response = MaybeSubject.create();
+				responses.add(response);
+				window.track(response);
+			});
+			regular.start();
+			awaitWaiting(regular);
+			regulars.add(regular);
+		}
+		MaybeSubject<String> priorityRequest = MaybeSubject.create();
+		Thread priority = new Thread(() -> {
+			window.acquire(true);
+			order.add("priority");
+			window.track(priorityRequest);
+		});
+		priority.start();
+		awaitWaiting(priority);
+
+		first.onSuccess("id");
+		priority.join(5000);
+		assertThat(order, contains("priority"));
+
+		priorityRequest.onSuccess("id");
+		for (int i = 0; i < regulars.size(); i++) {
+			while (responses.size() <= i) {
+				Thread.sleep(10);
+			}
+			responses.get(i).onSuccess("id");
+		}
+		for (Thread regular : regulars) {
+			regular.join(5000);
+		}
+		assertThat(order, contains("priority", "regular", "regular", "regular"));
+	}
+}
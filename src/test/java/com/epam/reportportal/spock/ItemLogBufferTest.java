@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class ItemLogBufferTest {
+
+	@AfterEach
+	public void unbind() {
+		ItemLogBuffer.bind(null);
+	}
+
+	@Test
+	public void logs_are_not_buffered_without_bound_buffer() {
+		assertThat(ItemLogBuffer.log("INFO", "message"), equalTo(false));
+	}
+
+	@Test
+	public void logs_are_buffered_into_bound_buffer() {
+		ItemLogBuffer buffer = new ItemLogBuffer(10);
+		ItemLogBuffer.bind(buffer);
+
+		assertThat(ItemLogBuffer.log("INFO", "first"), equalTo(true));
+		assertThat(ItemLogBuffer.log("ERROR", "second"), equalTo(true));
+
+		List<ItemLogBuffer.Entry> entries = buffer.drain();
+		assertThat(entries.stream().map(e -> e.message).collect(Collectors.toList()), contains("first", "second"));
+		assertThat(entries.stream().map(e -> e.level).collect(Collectors.toList()), contains("INFO", "ERROR"));
+		assertThat(buffer.size(), equalTo(0));
+	}
+
+	@Test
+	public void the_oldest_entries_are_discarded_when_buffer_is_full() {
+		ItemLogBuffer buffer = new ItemLogBuffer(3);
+		for (int i = 0; i < 5; i++) {
+			buffer.add("INFO", "message " + i, Instant.now());
+		}
+
+		List<ItemLogBuffer.Entry> entries = buffer.drain();
+		assertThat(entries, hasSize(3));
+		assertThat(entries.stream().map(e -> e.message).collect(Collectors.toList()), contains("message 2", "message 3", "message 4"));
+		assertThat(buffer.getDropped(), equalTo(2L));
+	}
+
+	@Test
+	public void full_buffer_is_passed_to_overflow_consumer_as_one_batch() {
+		List<List<ItemLogBuffer.Entry>> batches = new ArrayList<>();
+		ItemLogBuffer buffer = new ItemLogBuffer(2, 0, batches::add);
+		for (int i = 0; i < 5; i++) {
+			buffer.add("INFO", "message " + i, Instant.now());
+		}
+
+		assertThat(batches, hasSize(2));
+		assertThat(batches.get(0).stream().map(e -> e.message).collect(Collectors.toList()), contains("message 0", "message 1"));
+		assertThat(batches.get(1).stream().map(e -> e.message).collect(Collectors.toList()), contains("message 2", "message 3"));
+		assertThat(buffer.drain().stream().map(e -> e.message).collect(Collectors.toList()), contains("message 4"));
+		assertThat(buffer.getDropped(), equalTo(0L));
+	}
+
+	@Test
+	public void expired_buffer_is_passed_to_overflow_consumer() {
+		List<List<ItemLogBuffer.Entry>> batches = new ArrayList<>();
+		ItemLogBuffer buffer = new ItemLogBuffer(100, 1000, batches::add);
+		Instant start = Instant.now();
+		buffer.add("INFO", "first", start);
+		buffer.add("INFO", "second", start.plusMillis(500));
+
+		assertThat(batches, hasSize(0));
+
+		buffer.add("INFO", "third", start.plusMillis(1000));
+
+		assertThat(batches, hasSize(1));
+		assertThat(batches.get(0).stream().map(e -> e.message).collect(Collectors.toList()), contains("first", "second", "third"));
+		assertThat(buffer.size(), equalTo(0));
+	}
+}
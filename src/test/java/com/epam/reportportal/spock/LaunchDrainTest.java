@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LaunchDrainTest {
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException ignore) {
+		}
+	}
+
+	@Test
+	public void items_are_finished_concurrently() throws InterruptedException {
+		LaunchDrain drain = new LaunchDrain(new InFlightWindow(0, InFlightWindow.Policy.BLOCK), 4, 0, 0);
+		CountDownLatch started = new CountDownLatch(4);
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		drain.finishAll(Arrays.asList("a", "b", "c", "d"), item -> {
+			threads.add(Thread.currentThread().getName());
+			started.countDown();
+			try {
+				started.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException ignore) {
+			}
+		}, item -> item);
+
+		assertThat(started.getCount(), equalTo(0L));
+		assertThat(threads, hasSize(4));
+		assertThat(drain.getAbandoned(), empty());
+	}
+
+	@Test
+	public void items_which_are_not_finished_in_time_are_abandoned() {
+		LaunchDrain drain = new LaunchDrain(new InFlightWindow(0, InFlightWindow.Policy.BLOCK), 2, 200, 50);
+		drain.start();
+
+		drain.finishAll(Arrays.asList("fast", "slow"), item -> sleep("slow".equals(item) ? 5000 : 0), item -> item);
+		drain.run("launch finish", () -> sleep(5000));
+		drain.stop();
+
+		List<String> abandoned = drain.getAbandoned();
+		assertThat(abandoned, contains("item finish: slow", "launch finish"));
+		assertThat(drain.getRemaining(), equalTo(0L));
+	}
+
+	@Test
+	public void unbounded_drain_runs_actions_in_place() {
+		LaunchDrain drain = new LaunchDrain(new InFlightWindow(0, InFlightWindow.Policy.BLOCK), 1, 0, 0);
+		Thread current = Thread.currentThread();
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		drain.finishAll(Arrays.asList("a", "b"), item -> threads.add(Thread.currentThread()), item -> item);
+		drain.run("launch finish", () -> threads.add(Thread.currentThread()));
+
+		assertThat(threads, contains(current));
+		assertThat(drain.getRemaining(), equalTo(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void leftover_items_are_finished_sequentially_by_default() {
+		assertThat(new SpockParameters().getDrainThreads(), equalTo(1));
+	}
+}
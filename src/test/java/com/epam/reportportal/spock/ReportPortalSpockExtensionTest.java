@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.spockframework.runtime.model.SpecInfo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class ReportPortalSpockExtensionTest {
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("rp.enable");
+	}
+
+	private static ListenerParameters parameters(Boolean enable, String endpoint, String project) {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setEnable(enable);
+		parameters.setBaseUrl(endpoint);
+		parameters.setProjectName(project);
+		return parameters;
+	}
+
+	@Test
+	public void reporting_is_enabled_only_if_endpoint_and_project_are_configured() {
+		assertThat(ReportPortalSpockExtension.isReportingEnabled(parameters(true, "http://localhost:8080", "test")), equalTo(true));
+		assertThat(ReportPortalSpockExtension.isReportingEnabled(parameters(false, "http://localhost:8080", "test")), equalTo(false));
+		assertThat(ReportPortalSpockExtension.isReportingEnabled(parameters(true, null, "test")), equalTo(false));
+		assertThat(ReportPortalSpockExtension.isReportingEnabled(parameters(true, "http://localhost:8080", " ")), equalTo(false));
+	}
+
+	@Test
+	public void disabled_extension_does_not_touch_specifications() {
+		System.setProperty("rp.enable", "false");
+		ReportPortalSpockExtension extension = new ReportPortalSpockExtension();
+		SpecInfo spec = mock(SpecInfo.class);
+
+		extension.start();
+		extension.visitSpec(spec);
+		extension.stop();
+
+		verifyNoInteractions(spec);
+	}
+}
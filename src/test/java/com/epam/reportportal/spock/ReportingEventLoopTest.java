@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class ReportingEventLoopTest {
+
+	@Test
+	public void events_of_one_thread_are_executed_in_order() {
+		ReportingEventLoop<Runnable> loop = new ReportingEventLoop<>(4, Runnable::run);
+		List<Integer> executed = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			int value = i;
+			loop.publish(() -> executed.add(value));
+		}
+		loop.shutdown();
+
+		assertThat(executed, equalTo(IntStream.range(0, 100).boxed().collect(Collectors.toList())));
+	}
+
+	@Test
+	public void events_of_many_threads_are_all_executed() throws InterruptedException {
+		ReportingEventLoop<Runnable> loop = new ReportingEventLoop<>(16, Runnable::run);
+		List<Integer> executed = new ArrayList<>();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		for (int i = 0; i < 1000; i++) {
+			int value = i;
+			executor.execute(() -> loop.publish(() -> executed.add(value)));
+		}
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+		loop.shutdown();
+
+		assertThat(executed, hasSize(1000));
+	}
+
+	@Test
+	public void event_time_is_the_publishing_time() {
+		ReportingEventLoop<Runnable> loop = new ReportingEventLoop<>(4, Runnable::run);
+		Instant before = Instant.now();
+		List<Instant> times = new ArrayList<>();
+		loop.publish(() -> {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException ignore) {
+			}
+		});
+		loop.publish(() -> times.add(loop.now()));
+		loop.shutdown();
+
+		assertThat(times, hasSize(1));
+		assertThat(times.get(0).isBefore(before.plusMillis(40)), equalTo(true));
+	}
+
+	@Test
+	public void events_published_during_shutdown_are_all_executed() throws InterruptedException {
+		ReportingEventLoop<Runnable> loop = new ReportingEventLoop<>(2, Runnable::run);
+		AtomicInteger executed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		for (int i = 0; i < 10000; i++) {
+			executor.execute(() -> loop.publish(executed::incrementAndGet));
+		}
+		loop.shutdown();
+		executor.shutdown();
+
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), equalTo(true));
+		assertThat(executed.get(), equalTo(10000));
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock;
+
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RequestTemplatesTest {
+
+	private static StartTestItemRQ template() {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName("name");
+		rq.setType("STEP");
+		rq.setDescription("description");
+		rq.setCodeRef("com.example.Spec.feature");
+		rq.setTestCaseId("com.example.Spec.feature");
+		rq.setAttributes(Collections.singleton(new ItemAttributesRQ("key", "value")));
+		return rq;
+	}
+
+	@Test
+	public void template_is_built_once() {
+		RequestTemplates templates = new RequestTemplates(0);
+		AtomicInteger builds = new AtomicInteger();
+
+		StartTestItemRQ first = templates.get("key", () -> {
+			builds.incrementAndGet();
+			return template();
+		});
+		StartTestItemRQ second = templates.get("key", () -> {
+			builds.incrementAndGet();
+			return template();
+		});
+
+		assertThat(builds.get(), equalTo(1));
+		assertThat(second, sameInstance(first));
+	}
+
+	@Test
+	public void template_is_prepared_on_the_pool() throws InterruptedException {
+		RequestTemplates templates = new RequestTemplates(2);
+		CountDownLatch prepared = new CountDownLatch(1);
+		templates.prepare(() -> {
+			templates.get("key", RequestTemplatesTest::template);
+			prepared.countDown();
+		});
+
+		assertThat(prepared.await(10, TimeUnit.SECONDS), equalTo(true));
+		assertThat(templates.get("key", StartTestItemRQ::new).getName(), equalTo("name"));
+		templates.shutdown();
+	}
+
+	@Test
+	public void removed_templates_are_rebuilt_on_demand() {
+		RequestTemplates templates = new RequestTemplates(0);
+		StartTestItemRQ first = templates.get("key", RequestTemplatesTest::template);
+		templates.get("other", RequestTemplatesTest::template);
+
+		templates.remove(Collections.singletonList("key"));
+
+		assertThat(templates.size(), equalTo(1));
+		assertThat(templates.get("key", RequestTemplatesTest::template), not(sameInstance(first)));
+	}
+
+	@Test
+	public void templates_are_discarded_on_shutdown() {
+		RequestTemplates templates = new RequestTemplates(0);
+		templates.get("key", RequestTemplatesTest::template);
+
+		templates.shutdown();
+
+		assertThat(templates.size(), equalTo(0));
+	}
+
+	@Test
+	public void preparation_is_skipped_without_threads() {
+		RequestTemplates templates = new RequestTemplates(0);
+		AtomicInteger runs = new AtomicInteger();
+		templates.prepare(runs::incrementAndGet);
+
+		assertThat(runs.get(), equalTo(0));
+	}
+
+	@Test
+	public void applied_template_attributes_are_copied() {
+		StartTestItemRQ template = template();
+		StartTestItemRQ rq = RequestTemplates.apply(template, new StartTestItemRQ());
+
+		assertThat(rq.getDescription(), equalTo("description"));
+		assertThat(rq.getCodeRef(), equalTo("com.example.Spec.feature"));
+		assertThat(rq.getTestCaseId(), equalTo("com.example.Spec.feature"));
+		assertThat(rq.getAttributes(), hasSize(1));
+		ItemAttributesRQ attribute = rq.getAttributes().iterator().next();
+		assertThat(attribute, not(sameInstance(template.getAttributes().iterator().next())));
+		assertThat(attribute.getKey(), equalTo("key"));
+		assertThat(attribute.getValue(), equalTo("value"));
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.spock.utils;
+
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class SystemAttributesFetcherTest {
+
+	@AfterEach
+	public void reset() {
+		SystemAttributesFetcher.reset();
+	}
+
+	private static Set<String> keys(Set<ItemAttributesRQ> attributes) {
+		return attributes.stream().map(ItemAttributesRQ::getKey).collect(Collectors.toSet());
+	}
+
+	@Test
+	public void system_attributes_are_cached_in_jvm() {
+		SystemAttributesFetcher.reset();
+		Set<ItemAttributesRQ> cached = SystemAttributesFetcher.getSystemAttributes();
+		Set<ItemAttributesRQ> first = SystemAttributesFetcher.collectSystemAttributes(true);
+		first.clear();
+		Set<ItemAttributesRQ> second = SystemAttributesFetcher.collectSystemAttributes(true);
+
+		assertThat(keys(second), hasItems("os", "jvm", "skippedIssue"));
+		// the attributes are collected once, later calls copy them
+		assertThat(SystemAttributesFetcher.getSystemAttributes(), sameInstance(cached));
+		assertThat(second, not(sameInstance(first)));
+	}
+
+	@Test
+	public void system_attributes_are_collected_again_after_reset() {
+		Set<ItemAttributesRQ> first = SystemAttributesFetcher.getSystemAttributes();
+		SystemAttributesFetcher.reset();
+
+		assertThat(SystemAttributesFetcher.getSystemAttributes(), not(sameInstance(first)));
+	}
+}